@@ -0,0 +1,100 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link CompactVersionArray#compareEach} and {@link CompactVersionArray#parallelCompareEach} against calling
+ * {@link VersionComparator#compare} on each pair of {@link OrderableSlsVersion}s, for columns of actual and desired
+ * versions where most hosts are already at their desired version.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@SuppressWarnings({"checkstyle:hideutilityclassconstructor", "VisibilityModifier", "DesignForExtension"})
+public class CompactVersionCompareBenchmark {
+
+    @Param({"2000000", "20000000"})
+    int size;
+
+    CompactVersionArray actual;
+    CompactVersionArray desired;
+    OrderableSlsVersion[] actualVersions;
+    OrderableSlsVersion[] desiredVersions;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(0);
+        actual = new CompactVersionArray(size);
+        desired = new CompactVersionArray(size);
+        actualVersions = new OrderableSlsVersion[size];
+        desiredVersions = new OrderableSlsVersion[size];
+        for (int i = 0; i < size; i++) {
+            String target = "2." + random.nextInt(50) + "." + random.nextInt(100);
+            String running = random.nextInt(10) == 0 ? "2." + random.nextInt(50) + ".0-rc1" : target;
+            actualVersions[i] = OrderableSlsVersion.valueOf(running);
+            desiredVersions[i] = OrderableSlsVersion.valueOf(target);
+            actual.add(CompactVersion.from(actualVersions[i]));
+            desired.add(CompactVersion.from(desiredVersions[i]));
+        }
+    }
+
+    @Benchmark
+    public int[] compareEach() {
+        return actual.compareEach(desired);
+    }
+
+    @Benchmark
+    public int[] parallelCompareEach() {
+        return actual.parallelCompareEach(desired);
+    }
+
+    @Benchmark
+    public int[] versionComparator() {
+        int[] results = new int[size];
+        for (int i = 0; i < size; i++) {
+            results[i] = Integer.signum(VersionComparator.INSTANCE.compare(actualVersions[i], desiredVersions[i]));
+        }
+        return results;
+    }
+
+    public static void main(String[] _args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(CompactVersionCompareBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
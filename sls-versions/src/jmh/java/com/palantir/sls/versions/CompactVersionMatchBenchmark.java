@@ -0,0 +1,95 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link CompactVersionArray#matchAll} against calling {@link SlsVersionMatcher#matches(CompactVersion)} on
+ * every element and setting the bits one at a time. The 100M case needs a heap of around 4 GB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@SuppressWarnings({"checkstyle:hideutilityclassconstructor", "VisibilityModifier", "DesignForExtension"})
+public class CompactVersionMatchBenchmark {
+
+    @Param({"1000000", "10000000", "100000000"})
+    int size;
+
+    @Param({"3.14.x", "3.14.15"})
+    String matcherValue;
+
+    CompactVersionArray array;
+    SlsVersionMatcher matcher;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(0);
+        array = new CompactVersionArray(size);
+        for (int i = 0; i < size; i++) {
+            // mostly releases close to the matcher, so that a good share of rows match
+            SlsVersionType type = random.nextInt(8) == 0 ? SlsVersionType.RELEASE_SNAPSHOT : SlsVersionType.RELEASE;
+            int patch = random.nextInt(20);
+            array.add(
+                    CompactVersion.encodeMsb(3, 12 + random.nextInt(4), patch),
+                    CompactVersion.encodeLsb(type, patch, 0, type == SlsVersionType.RELEASE ? 0 : 1));
+        }
+        matcher = SlsVersionMatcher.valueOf(matcherValue);
+    }
+
+    @Benchmark
+    public long[] matchAll() {
+        return array.matchAll(matcher);
+    }
+
+    @Benchmark
+    public long[] matchEach() {
+        long[] bits = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        for (int i = 0; i < size; i++) {
+            if (matcher.matches(array.get(i))) {
+                bits[i / Long.SIZE] |= 1L << i;
+            }
+        }
+        return bits;
+    }
+
+    public static void main(String[] _args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(CompactVersionMatchBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the radix sorts of {@link CompactVersionArray} against {@link Arrays#sort(Object[])} and
+ * {@link Arrays#parallelSort(Comparable[])} of the same versions as {@link CompactVersion} objects. Every benchmark
+ * first copies the unsorted input, so all of them include the cost of one copy. The 100M case needs a heap of around
+ * 12 GB for the object arrays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx16g")
+@SuppressWarnings({"checkstyle:hideutilityclassconstructor", "VisibilityModifier", "DesignForExtension"})
+public class CompactVersionSortBenchmark {
+
+    @Param({"1000", "100000", "10000000", "100000000"})
+    int size;
+
+    long[] msbs;
+    long[] lsbs;
+    CompactVersion[] versions;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(0);
+        msbs = new long[size];
+        lsbs = new long[size];
+        versions = new CompactVersion[size];
+        for (int i = 0; i < size; i++) {
+            CompactVersion version = CompactVersion.parse(randomVersion(random));
+            msbs[i] = version.getMsb();
+            lsbs[i] = version.getLsb();
+            versions[i] = version;
+        }
+    }
+
+    private static String randomVersion(SplittableRandom random) {
+        String release = random.nextInt(5) + "." + random.nextInt(200) + "." + random.nextInt(1000);
+        switch (random.nextInt(4)) {
+            case 0:
+                return release;
+            case 1:
+                return release + "-rc" + random.nextInt(10);
+            case 2:
+                return release + "-" + random.nextInt(500) + "-gabcdef";
+            default:
+                return release + "-rc" + random.nextInt(10) + "-" + random.nextInt(50) + "-gabcdef";
+        }
+    }
+
+    private CompactVersionArray copyArray() {
+        CompactVersionArray array = new CompactVersionArray(size);
+        for (int i = 0; i < size; i++) {
+            array.add(msbs[i], lsbs[i]);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public CompactVersionArray radixSort() {
+        CompactVersionArray array = copyArray();
+        array.sort();
+        return array;
+    }
+
+    @Benchmark
+    public CompactVersionArray parallelRadixSort() {
+        CompactVersionArray array = copyArray();
+        array.parallelSort();
+        return array;
+    }
+
+    @Benchmark
+    public CompactVersion[] arraysSort() {
+        CompactVersion[] copy = versions.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public CompactVersion[] arraysParallelSort() {
+        CompactVersion[] copy = versions.clone();
+        Arrays.parallelSort(copy);
+        return copy;
+    }
+
+    public static void main(String[] _args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(CompactVersionSortBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
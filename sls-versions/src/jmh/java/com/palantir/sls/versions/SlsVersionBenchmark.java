@@ -67,6 +67,11 @@ public class SlsVersionBenchmark {
         return OrderableSlsVersion.safeValueOf(versionString.string);
     }
 
+    @Benchmark
+    public Optional<CompactVersion> compactTryParse() {
+        return CompactVersion.tryParse(versionString.string);
+    }
+
     public static void main(String[] _args) throws Exception {
         Options opt = new OptionsBuilder()
                 .include(SlsVersionBenchmark.class.getSimpleName())
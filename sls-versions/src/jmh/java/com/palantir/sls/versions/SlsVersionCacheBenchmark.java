@@ -0,0 +1,111 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import com.palantir.sls.versions.SlsVersionCache.EvictionPolicy;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares cached lookups against the uncached {@link OrderableSlsVersion#safeValueOf(String)} over a working set of a
+ * few thousand distinct strings, some of them invalid. Run {@link #main} to sweep from 1 to 32 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@Threads(4)
+@SuppressWarnings({"checkstyle:hideutilityclassconstructor", "VisibilityModifier", "DesignForExtension"})
+public class SlsVersionCacheBenchmark {
+
+    private static final int DISTINCT_STRINGS = 4096;
+
+    @Param({"LRU", "CLOCK"})
+    EvictionPolicy policy;
+
+    /** Cache size relative to the working set, in percent; below 100 some lookups miss and evict. */
+    @Param({"100", "50"})
+    int cachePercent;
+
+    String[] strings;
+    SlsVersionCache<OrderableSlsVersion> cache;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private final SplittableRandom random = new SplittableRandom();
+
+        int next() {
+            return random.nextInt(DISTINCT_STRINGS);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        strings = new String[DISTINCT_STRINGS];
+        for (int i = 0; i < DISTINCT_STRINGS; i++) {
+            // every 16th string is invalid, to exercise negative caching
+            strings[i] = (i % 16 == 0) ? "1." + i + ".0-INVALID" : (i / 64) + "." + (i % 64) + ".0-rc" + (i % 7);
+        }
+        cache = SlsVersionCache.forOrderableVersions(DISTINCT_STRINGS * cachePercent / 100, policy);
+    }
+
+    @Benchmark
+    public Optional<OrderableSlsVersion> uncached(Cursor cursor) {
+        return OrderableSlsVersion.safeValueOf(strings[cursor.next()]);
+    }
+
+    @Benchmark
+    public Optional<OrderableSlsVersion> cached(Cursor cursor) {
+        return cache.safeValueOf(strings[cursor.next()]);
+    }
+
+    public static void main(String[] _args) throws Exception {
+        for (int threads : new int[] {1, 2, 4, 8, 16, 32}) {
+            Options opt = new OptionsBuilder()
+                    .include(SlsVersionCacheBenchmark.class.getSimpleName())
+                    .addProfiler(GCProfiler.class)
+                    .forks(1)
+                    .threads(threads)
+                    .warmupIterations(3)
+                    .warmupTime(TimeValue.seconds(3))
+                    .measurementIterations(3)
+                    .measurementTime(TimeValue.seconds(3))
+                    .build();
+            new Runner(opt).run();
+        }
+    }
+}
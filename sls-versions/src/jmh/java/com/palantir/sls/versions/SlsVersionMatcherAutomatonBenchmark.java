@@ -0,0 +1,103 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares counting the matchers which match each of a batch of version strings with a
+ * {@link SlsVersionMatcherAutomaton} against calling {@link SlsVersionMatcher#matches(CharSequence)} for every
+ * matcher.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@SuppressWarnings({"checkstyle:hideutilityclassconstructor", "VisibilityModifier", "DesignForExtension"})
+public class SlsVersionMatcherAutomatonBenchmark {
+
+    @Param({"10", "300"})
+    int matcherCount;
+
+    List<SlsVersionMatcher> matchers;
+    SlsVersionMatcherAutomaton automaton;
+    String[] versions;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(0);
+        matchers = new ArrayList<>();
+        for (int i = 0; i < matcherCount; i++) {
+            int major = random.nextInt(5);
+            matchers.add(SlsVersionMatcher.valueOf(
+                    random.nextBoolean() ? major + ".x.x" : major + "." + random.nextInt(20) + ".x"));
+        }
+        automaton = SlsVersionMatcherAutomaton.builder().addAll(matchers).build();
+        versions = new String[1000];
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = random.nextInt(5) + "." + random.nextInt(20) + "." + random.nextInt(100);
+        }
+    }
+
+    @Benchmark
+    public int automaton() {
+        int count = 0;
+        for (String version : versions) {
+            count += automaton.getMatchCount(automaton.run(version));
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int eachMatcher() {
+        int count = 0;
+        for (String version : versions) {
+            for (SlsVersionMatcher matcher : matchers) {
+                count += matcher.matches(version) ? 1 : 0;
+            }
+        }
+        return count;
+    }
+
+    public static void main(String[] _args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(SlsVersionMatcherAutomatonBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -44,6 +44,11 @@ import org.openjdk.jmh.runner.options.TimeValue;
 @SuppressWarnings("checkstyle:hideutilityclassconstructor")
 public class SlsVersionMatcherBenchmark {
 
+    private static final SlsVersionMatcher CONCRETE_MATCHER = SlsVersionMatcher.valueOf("2.3.4");
+    private static final OrderableSlsVersion VERSION = OrderableSlsVersion.valueOf("2.3.5");
+    private static final CompactVersion COMPACT_VERSION = CompactVersion.from(VERSION);
+    private static final String VERSION_STRING = "2.3.5";
+
     @Benchmark
     public static Optional<SlsVersionMatcher> matcher_with_one_x_x() {
         return RegexSlsVersionMatcherParser.safeValueOf("1.x.x");
@@ -64,6 +69,31 @@ public class SlsVersionMatcherBenchmark {
         return SlsVersionMatcherParser.safeValueOf("2.3.4");
     }
 
+    @Benchmark
+    public static int compare_orderable_version() {
+        return CONCRETE_MATCHER.compare(VERSION);
+    }
+
+    @Benchmark
+    public static int compare_compact_version() {
+        return CONCRETE_MATCHER.compare(COMPACT_VERSION);
+    }
+
+    @Benchmark
+    public static boolean matches_parsed_string() {
+        return CONCRETE_MATCHER.matches(OrderableSlsVersion.valueOf(VERSION_STRING));
+    }
+
+    @Benchmark
+    public static boolean matches_string() {
+        return CONCRETE_MATCHER.matches(VERSION_STRING);
+    }
+
+    @Benchmark
+    public static int compare_string() {
+        return CONCRETE_MATCHER.compare(VERSION_STRING);
+    }
+
     public static void main(String[] _args) throws Exception {
         Options opt = new OptionsBuilder()
                 .include(SlsVersionMatcherBenchmark.class.getSimpleName())
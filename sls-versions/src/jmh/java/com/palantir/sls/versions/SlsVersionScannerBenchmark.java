@@ -0,0 +1,119 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares finding the versions in 100 MB of log-like text with {@link SlsVersionScanner} against searching it with
+ * the {@link SlsVersionType#NON_ORDERABLE} pattern, which matches versions of every type, without its anchors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@SuppressWarnings({"checkstyle:hideutilityclassconstructor", "VisibilityModifier", "DesignForExtension"})
+public class SlsVersionScannerBenchmark {
+
+    String text;
+    byte[] utf8;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(0);
+        StringBuilder builder = new StringBuilder();
+        while (builder.length() < 100_000_000) {
+            if (random.nextInt(10) == 0) {
+                builder.append("Deploying my-service-")
+                        .append(random.nextInt(10))
+                        .append('.')
+                        .append(random.nextInt(30))
+                        .append('.')
+                        .append(random.nextInt(200));
+            } else {
+                builder.append("2026-10-16T12:34:56.789Z INFO [main] request ")
+                        .append(random.nextLong())
+                        .append(" handled in ")
+                        .append(random.nextInt(1000))
+                        .append("ms");
+            }
+            builder.append('\n');
+        }
+        text = builder.toString();
+        utf8 = text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public long scanBytes() {
+        LongAdder count = new LongAdder();
+        SlsVersionScanner.scan(utf8, 0, utf8.length, (_offset, _length, _type, _msb, _lsb) -> count.increment());
+        return count.sum();
+    }
+
+    @Benchmark
+    public long parallelScanBytes() {
+        LongAdder count = new LongAdder();
+        SlsVersionScanner.parallelScan(
+                utf8, 0, utf8.length, (_offset, _length, _type, _msb, _lsb) -> count.increment());
+        return count.sum();
+    }
+
+    @Benchmark
+    public long scanString() {
+        LongAdder count = new LongAdder();
+        SlsVersionScanner.scan(text, (_offset, _length, _type, _msb, _lsb) -> count.increment());
+        return count.sum();
+    }
+
+    @Benchmark
+    public long regexFind() {
+        String pattern = SlsVersionType.NON_ORDERABLE.getPattern().pattern();
+        Matcher matcher = Pattern.compile(pattern.substring(1, pattern.length() - 1)).matcher(text);
+        long count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+
+    public static void main(String[] _args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(SlsVersionScannerBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares finding every rule which matches a version with {@link VersionIntervalIndex} against calling
+ * {@link SlsVersionMatcher#matches} and {@link VersionRange#contains} on each rule in turn, and measures the cost of
+ * building the index. Half the rules are matchers and half are ranges.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@SuppressWarnings({"checkstyle:hideutilityclassconstructor", "VisibilityModifier", "DesignForExtension"})
+public class VersionIntervalIndexBenchmark {
+    private static final int QUERIES = 1024;
+
+    @Param({"1000", "100000"})
+    int rules;
+
+    List<SlsVersionMatcher> matchers;
+    List<VersionRange> ranges;
+    VersionIntervalIndex<Integer> index;
+    OrderableSlsVersion[] queries;
+    int next;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(0);
+        matchers = new ArrayList<>();
+        ranges = new ArrayList<>();
+        for (int i = 0; i < rules / 2; i++) {
+            matchers.add(SlsVersionMatcher.valueOf(randomRelease(random)));
+            OrderableSlsVersion lower = OrderableSlsVersion.valueOf(randomRelease(random).replace("x", "0"));
+            ranges.add(VersionRange.closedOpen(
+                    lower,
+                    OrderableSlsVersion.valueOf(lower.getMajorVersionNumber() + 1 + "."
+                            + random.nextInt(20) + "." + random.nextInt(100))));
+        }
+        index = buildIndex();
+        queries = new OrderableSlsVersion[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = OrderableSlsVersion.valueOf(randomRelease(random).replace("x", "1"));
+        }
+    }
+
+    private static String randomRelease(SplittableRandom random) {
+        String major = String.valueOf(random.nextInt(10));
+        String minor = random.nextInt(4) == 0 ? "x" : String.valueOf(random.nextInt(20));
+        String patch = random.nextInt(2) == 0 || minor.equals("x") ? "x" : String.valueOf(random.nextInt(100));
+        return major + "." + minor + "." + patch;
+    }
+
+    private VersionIntervalIndex<Integer> buildIndex() {
+        VersionIntervalIndex.Builder<Integer> builder = VersionIntervalIndex.builder();
+        for (int i = 0; i < matchers.size(); i++) {
+            builder.add(matchers.get(i), 2 * i);
+            builder.add(ranges.get(i), 2 * i + 1);
+        }
+        return builder.build();
+    }
+
+    private OrderableSlsVersion nextQuery() {
+        return queries[next++ & (QUERIES - 1)];
+    }
+
+    @Benchmark
+    public void intervalIndex(Blackhole blackhole) {
+        index.forEachMatch(nextQuery(), blackhole::consume);
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        OrderableSlsVersion version = nextQuery();
+        for (int i = 0; i < matchers.size(); i++) {
+            if (matchers.get(i).matches(version)) {
+                blackhole.consume(2 * i);
+            }
+            if (ranges.get(i).contains(version)) {
+                blackhole.consume(2 * i + 1);
+            }
+        }
+    }
+
+    @Benchmark
+    public VersionIntervalIndex<Integer> build() {
+        return buildIndex();
+    }
+
+    public static void main(String[] _args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(VersionIntervalIndexBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
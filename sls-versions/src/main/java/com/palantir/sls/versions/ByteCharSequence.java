@@ -0,0 +1,83 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A read-only {@link CharSequence} view over a slice of UTF-8 encoded bytes, which lets the parsers read straight out
+ * of a {@code byte[]} or {@link ByteBuffer} without decoding it into a {@link String} first.
+ *
+ * <p>Every character of a valid version or matcher is ASCII, so each byte is exposed as a single char. Bytes of
+ * multi-byte UTF-8 sequences surface as chars above {@code 0x7F}, which no parser accepts; only {@link #toString()}
+ * performs a real UTF-8 decode.
+ */
+final class ByteCharSequence implements CharSequence {
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    private ByteCharSequence(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    static ByteCharSequence of(byte[] utf8, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        return new ByteCharSequence(ByteBuffer.wrap(utf8), offset, length);
+    }
+
+    /** Views the remaining bytes of the buffer; its position and limit are left untouched. */
+    static ByteCharSequence of(ByteBuffer utf8) {
+        return new ByteCharSequence(utf8, utf8.position(), utf8.remaining());
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return new ByteCharSequence(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+        }
+        return new String(toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /** Copies the viewed bytes into a new array. */
+    byte[] toByteArray() {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return bytes;
+    }
+}
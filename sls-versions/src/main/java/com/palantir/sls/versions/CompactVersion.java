@@ -19,8 +19,15 @@ package com.palantir.sls.versions;
 import com.google.errorprone.annotations.CompileTimeConstant;
 import com.palantir.logsafe.Preconditions;
 import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.UnsafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.OptionalInt;
+import javax.annotation.Nullable;
 
 /**
  * Stores a compact representation of {@link OrderableSlsVersion} that is lexicographically ordered when rendered as a
@@ -45,6 +52,11 @@ import java.util.OptionalInt;
  * <p><b>Note</b>: the correctness of the implementation of {@link #compareTo(CompactVersion)} depends on the
  * constituent longs holding only positive values. This is partially accomplished by using less than the full number of
  * bits available, and thus by avoiding twos-complement representation issues when the highest bit in the long is set.
+ *
+ * <p>{@link #toBytes()} and {@link #writeTo(ByteBuffer)} serialize the msb followed by the lsb as {@value #BYTES}
+ * big-endian bytes, which sort in the same order as {@link #compareTo(CompactVersion)} when compared lexicographically
+ * as unsigned bytes, for example as keys of a sorted key-value store.
+ * {@link #compare(ByteBuffer, int, ByteBuffer, int)} compares such keys in place.
  */
 public final class CompactVersion implements Comparable<CompactVersion> {
     private static final int MASK_20_BITS = 0xFFFFF;
@@ -52,10 +64,22 @@ public final class CompactVersion implements Comparable<CompactVersion> {
     private static final int MASK_8_BITS = 0xFF;
     private static final int MASK_2_BITS = 0x3;
 
+    /** The number of bytes written by {@link #writeTo(ByteBuffer)}. */
+    public static final int BYTES = 2 * Long.BYTES;
+
+    /** Returned by {@link #sortKeyMsb} for versions which cannot be represented, as no valid msb is negative. */
+    static final long NO_SORT_KEY = -1;
+
+    /** The greatest value of each numeric component, which are stored in 20 bits. */
+    static final int MAX_COMPONENT = MASK_20_BITS;
+
+    /** The git hash given to snapshots by {@link #toSlsVersion()}, without its leading {@code g}. */
+    static final String DEFAULT_GIT_HASH = "aaaaaa";
+
     private final long msb;
     private final long lsb;
 
-    private CompactVersion(long msb, long lsb) {
+    CompactVersion(long msb, long lsb) {
         this.msb = msb;
         this.lsb = lsb;
     }
@@ -68,35 +92,232 @@ public final class CompactVersion implements Comparable<CompactVersion> {
         return lsb;
     }
 
+    /**
+     * Writes the {@value #BYTES} byte serialized form of this version at the buffer's position, advancing it. The bytes
+     * are big-endian regardless of the buffer's {@link ByteBuffer#order()}.
+     */
+    public ByteBuffer writeTo(ByteBuffer buffer) {
+        boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+        buffer.putLong(bigEndian ? msb : Long.reverseBytes(msb));
+        buffer.putLong(bigEndian ? lsb : Long.reverseBytes(lsb));
+        return buffer;
+    }
+
+    /** Returns the {@value #BYTES} byte serialized form of this version, as written by {@link #writeTo}. */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[BYTES];
+        writeTo(ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+
+    /**
+     * Reads a version serialized by {@link #writeTo(ByteBuffer)} or {@link #toBytes()}, starting at the given offset.
+     *
+     * @throws SafeIllegalArgumentException if the bytes are not a valid serialized version
+     */
+    public static CompactVersion fromBytes(byte[] bytes, int offset) {
+        Objects.checkFromIndexSize(offset, BYTES, bytes.length);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        CompactVersion version = new CompactVersion(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES));
+        // decoding and re-encoding only preserves bits that are set in a valid encoding
+        Preconditions.checkArgument(
+                version.equals(version.reencode()),
+                "Not a serialized CompactVersion",
+                SafeArg.of("msb", version.msb),
+                SafeArg.of("lsb", version.lsb));
+        return version;
+    }
+
+    /**
+     * Compares two serialized versions in place, with the same result as deserializing them and calling
+     * {@link #compareTo(CompactVersion)}. The offsets are absolute, and the buffers' positions, limits and byte orders
+     * are ignored.
+     */
+    public static int compare(ByteBuffer left, int leftOffset, ByteBuffer right, int rightOffset) {
+        int comparison = Long.compareUnsigned(readLong(left, leftOffset), readLong(right, rightOffset));
+        if (comparison != 0) {
+            return comparison;
+        }
+        return Long.compareUnsigned(
+                readLong(left, leftOffset + Long.BYTES), readLong(right, rightOffset + Long.BYTES));
+    }
+
+    private static long readLong(ByteBuffer buffer, int offset) {
+        long value = buffer.getLong(offset);
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value);
+    }
+
     public static CompactVersion from(OrderableSlsVersion version) {
-        long patch = encode20b(version.getPatchVersionNumber(), "patch");
-
-        int rcNumber = version.firstSequenceVersionNumber().orElse(0);
-        int distanceFromVersion = version.secondSequenceVersionNumber().orElse(0);
-        if (version.getType().equals(SlsVersionType.RELEASE_SNAPSHOT)) {
-            // in this version format (1.0.0-10-gaaaaaa), the first sequence number represents the distance
-            // from the version rather than the implicit RC number
-            rcNumber = 0;
-            distanceFromVersion = version.firstSequenceVersionNumber().orElse(0);
+        long sortKeyMsb = version.sortKeyMsb();
+        if (sortKeyMsb != NO_SORT_KEY) {
+            return new CompactVersion(sortKeyMsb, version.sortKeyLsb());
         }
 
-        long lsb = encode20b(distanceFromVersion, "distanceFromVersion")
-                + (encodePriority1(version.getType()) << 20)
-                + (encode20b(rcNumber, "rcNumber") << 22)
-                + (encodePriority2(version.getType()) << 42)
-                + ((patch & 0xFF) << 44);
-        long msb = ((patch & 0xFFF00) >> 8)
-                + (encode20b(version.getMinorVersionNumber(), "minor") << 12)
-                + (encode20b(version.getMajorVersionNumber(), "major") << 32);
+        // the version is not representable, so one of these checks throws
+        int first = version.firstSequenceVersionNumber().orElse(0);
+        int second = version.secondSequenceVersionNumber().orElse(0);
+        return encode(
+                version.getType(),
+                encode20b(version.getMajorVersionNumber(), "major"),
+                encode20b(version.getMinorVersionNumber(), "minor"),
+                encode20b(version.getPatchVersionNumber(), "patch"),
+                encode20b(rcNumber(version.getType(), first), "rcNumber"),
+                encode20b(distanceFromVersion(version.getType(), first, second), "distanceFromVersion"));
+    }
 
-        return new CompactVersion(msb, lsb);
+    /**
+     * Parses an orderable version string straight into its compact representation, without materializing an
+     * {@link OrderableSlsVersion} along the way.
+     *
+     * @throws SafeIllegalArgumentException if the value is not an orderable version, or if any of its numeric
+     *     components does not fit in 20 bits
+     */
+    public static CompactVersion parse(CharSequence value) {
+        CompactVersion version = value == null ? null : SlsVersionParser.parse(value, CompactVersion::fromComponents);
+        if (version == null) {
+            throw new SafeIllegalArgumentException(
+                    "Value is not an orderable version representable as a CompactVersion",
+                    UnsafeArg.of("value", value));
+        }
+        return version;
     }
 
-    private static long encodePriority1(SlsVersionType type) {
+    /**
+     * The same as {@link #parse(CharSequence)}, but will return {@link Optional#empty} if the value is not an
+     * orderable version or does not fit in a CompactVersion.
+     */
+    public static Optional<CompactVersion> tryParse(CharSequence value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(SlsVersionParser.parse(value, CompactVersion::fromComponents));
+    }
+
+    @Nullable
+    private static CompactVersion fromComponents(
+            CharSequence _value,
+            SlsVersionType type,
+            int major,
+            int minor,
+            int patch,
+            int firstSequence,
+            int secondSequence) {
+        if (type == SlsVersionType.NON_ORDERABLE) {
+            return null;
+        }
+        return encodeIfFits(
+                type,
+                major,
+                minor,
+                patch,
+                rcNumber(type, firstSequence),
+                distanceFromVersion(type, firstSequence, secondSequence));
+    }
+
+    /** Returns the compact form of the given components, or null if any of them does not fit in 20 bits. */
+    @Nullable
+    static CompactVersion encodeIfFits(
+            SlsVersionType type, int major, int minor, int patch, int rcNumber, int distanceFromVersion) {
+        if (!fits20b(major, minor, patch, rcNumber, distanceFromVersion)) {
+            return null;
+        }
+        return encode(type, major, minor, patch, rcNumber, distanceFromVersion);
+    }
+
+    /**
+     * Returns {@link #getMsb()} of the compact form of the given version, or {@link #NO_SORT_KEY} if any of its
+     * components does not fit in 20 bits.
+     */
+    static long sortKeyMsb(OrderableSlsVersion version) {
+        return sortKeyMsb(
+                version.getType(),
+                version.getMajorVersionNumber(),
+                version.getMinorVersionNumber(),
+                version.getPatchVersionNumber(),
+                version.firstSequenceNumber(),
+                version.secondSequenceNumber());
+    }
+
+    /** The same as {@link #sortKeyMsb(OrderableSlsVersion)}, for a version's type and parsed components. */
+    static long sortKeyMsb(
+            SlsVersionType type, int major, int minor, int patch, int firstSequence, int secondSequence) {
+        if (type == SlsVersionType.NON_ORDERABLE) {
+            return NO_SORT_KEY;
+        }
+        int rcNumber = rcNumber(type, firstSequence);
+        int distanceFromVersion = distanceFromVersion(type, firstSequence, secondSequence);
+        return fits20b(major, minor, patch, rcNumber, distanceFromVersion)
+                ? encodeMsb(major, minor, patch)
+                : NO_SORT_KEY;
+    }
+
+    /**
+     * Returns {@link #getLsb()} of the compact form of the given version, which is only meaningful if
+     * {@link #sortKeyMsb} is not {@link #NO_SORT_KEY}.
+     */
+    static long sortKeyLsb(OrderableSlsVersion version) {
+        return sortKeyLsb(
+                version.getType(),
+                version.getPatchVersionNumber(),
+                version.firstSequenceNumber(),
+                version.secondSequenceNumber());
+    }
+
+    /** The same as {@link #sortKeyLsb(OrderableSlsVersion)}, for a version's type and parsed components. */
+    static long sortKeyLsb(SlsVersionType type, int patch, int firstSequence, int secondSequence) {
+        if (type == SlsVersionType.NON_ORDERABLE) {
+            return 0;
+        }
+        return encodeLsb(
+                type,
+                patch & MASK_20_BITS,
+                rcNumber(type, firstSequence) & MASK_20_BITS,
+                distanceFromVersion(type, firstSequence, secondSequence) & MASK_20_BITS);
+    }
+
+    static int rcNumber(SlsVersionType type, int firstSequence) {
+        return type.isReleaseCandidate() ? firstSequence : 0;
+    }
+
+    static int distanceFromVersion(SlsVersionType type, int firstSequence, int secondSequence) {
+        // in the release snapshot format (1.0.0-10-gaaaaaa), the first sequence number represents the distance
+        // from the version rather than the implicit RC number
+        if (type == SlsVersionType.RELEASE_SNAPSHOT) {
+            return firstSequence;
+        } else if (type == SlsVersionType.RELEASE_CANDIDATE_SNAPSHOT) {
+            return secondSequence;
+        }
+        return 0;
+    }
+
+    static boolean fits20b(int major, int minor, int patch, int rcNumber, int distanceFromVersion) {
+        // all components are non-negative, so any bit above the lowest 20 means one of them is out of range
+        return ((major | minor | patch | rcNumber | distanceFromVersion) & ~MASK_20_BITS) == 0;
+    }
+
+    private static CompactVersion encode(
+            SlsVersionType type, long major, long minor, long patch, long rcNumber, long distanceFromVersion) {
+        return new CompactVersion(
+                encodeMsb(major, minor, patch), encodeLsb(type, patch, rcNumber, distanceFromVersion));
+    }
+
+    static long encodeMsb(long major, long minor, long patch) {
+        return ((patch & 0xFFF00) >> 8) + (minor << 12) + (major << 32);
+    }
+
+    static long encodeLsb(SlsVersionType type, long patch, long rcNumber, long distanceFromVersion) {
+        return distanceFromVersion
+                + (encodePriority1(type) << 20)
+                + (rcNumber << 22)
+                + (encodePriority2(type) << 42)
+                + ((patch & 0xFF) << 44);
+    }
+
+    static long encodePriority1(SlsVersionType type) {
         return type.equals(SlsVersionType.RELEASE_CANDIDATE_SNAPSHOT) ? 1 : 0;
     }
 
-    private static long encodePriority2(SlsVersionType type) {
+    static long encodePriority2(SlsVersionType type) {
         switch (type) {
             case RELEASE_SNAPSHOT:
                 return 2;
@@ -124,9 +345,15 @@ public final class CompactVersion implements Comparable<CompactVersion> {
      *
      * <p><b>Note</b>: Snapshot versions <i>must</i> include a git hash in the string representation, but because
      * {@link OrderableSlsVersion} does not require equality and because this class' compact representation does not
-     * store the string, the git hash will always be set to {@code gaaaaaa}.
+     * store the string, the git hash will always be set to {@code gaaaaaa}. Use {@link CompactVersionWithHash} to
+     * preserve it.
      */
     public OrderableSlsVersion toSlsVersion() {
+        return toSlsVersion(msb, lsb, DEFAULT_GIT_HASH);
+    }
+
+    /** Decodes the given msb and lsb, using the given git hash (without its leading {@code g}) for snapshots. */
+    static OrderableSlsVersion toSlsVersion(long msb, long lsb, String gitHash) {
         int majorVersionNumber = (int) (msb >> 32) & MASK_20_BITS;
         int minorVersionNumber = (int) (msb >> 12) & MASK_20_BITS;
         int patchVersionNumber = (int) ((msb & MASK_12_BITS) << 8) + (int) ((lsb >> 44) & MASK_8_BITS);
@@ -138,6 +365,126 @@ public final class CompactVersion implements Comparable<CompactVersion> {
         int rcNumber = (int) (lsb >> 22) & MASK_20_BITS;
         int distanceFromVersion = (int) lsb & MASK_20_BITS;
 
+        return buildSlsVersion(
+                type,
+                majorVersionNumber,
+                minorVersionNumber,
+                patchVersionNumber,
+                rcNumber,
+                distanceFromVersion,
+                gitHash);
+    }
+
+    /** Returns the number of characters in the string of {@link #toSlsVersion()}. */
+    public int asciiLength() {
+        return VersionStrings.length(type(), major(), minor(), patch(), rc(), distance(), DEFAULT_GIT_HASH.length());
+    }
+
+    /**
+     * Appends the string of {@link #toSlsVersion()} to the given builder, without creating any intermediate objects.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        VersionStrings.append(builder, type(), major(), minor(), patch(), rc(), distance(), DEFAULT_GIT_HASH);
+        return builder;
+    }
+
+    /** The same as {@link #appendTo(StringBuilder)}, for any {@link Appendable}. */
+    public Appendable appendTo(Appendable appendable) throws IOException {
+        VersionStrings.append(appendable, type(), major(), minor(), patch(), rc(), distance(), DEFAULT_GIT_HASH);
+        return appendable;
+    }
+
+    /**
+     * Writes the string of {@link #toSlsVersion()} as ASCII bytes starting at the given offset, and returns the
+     * number of bytes written, which is {@link #asciiLength()}.
+     *
+     * @throws IndexOutOfBoundsException if the string does not fit, in which case nothing is written
+     */
+    public int writeAscii(byte[] bytes, int offset) {
+        return VersionStrings.writeAscii(
+                bytes, offset, type(), major(), minor(), patch(), rc(), distance(), DEFAULT_GIT_HASH);
+    }
+
+    /**
+     * The same as {@link #writeAscii(byte[], int)}, at an absolute offset of the buffer. The buffer's position is
+     * ignored and left unchanged, and the string must fit before its limit.
+     */
+    public int writeAscii(ByteBuffer buffer, int offset) {
+        return VersionStrings.writeAscii(
+                buffer, offset, type(), major(), minor(), patch(), rc(), distance(), DEFAULT_GIT_HASH);
+    }
+
+    private SlsVersionType type() {
+        return typeFromPriority((int) (lsb >> 20) & MASK_2_BITS, (int) (lsb >> 42) & MASK_2_BITS);
+    }
+
+    /** Returns true iff the compact version with the given {@link #getLsb()} is a release version. */
+    static boolean isRelease(long lsb) {
+        return ((lsb >> 42) & MASK_2_BITS) == encodePriority2(SlsVersionType.RELEASE);
+    }
+
+    private int major() {
+        return (int) (msb >> 32) & MASK_20_BITS;
+    }
+
+    private int minor() {
+        return (int) (msb >> 12) & MASK_20_BITS;
+    }
+
+    private int patch() {
+        return (int) ((msb & MASK_12_BITS) << 8) + (int) ((lsb >> 44) & MASK_8_BITS);
+    }
+
+    private int rc() {
+        return (int) (lsb >> 22) & MASK_20_BITS;
+    }
+
+    private int distance() {
+        return (int) lsb & MASK_20_BITS;
+    }
+
+    private CompactVersion reencode() {
+        int patchVersionNumber = (int) ((msb & MASK_12_BITS) << 8) + (int) ((lsb >> 44) & MASK_8_BITS);
+        SlsVersionType type = typeFromPriority((int) (lsb >> 20) & MASK_2_BITS, (int) (lsb >> 42) & MASK_2_BITS);
+        return encode(
+                type,
+                (msb >> 32) & MASK_20_BITS,
+                (msb >> 12) & MASK_20_BITS,
+                patchVersionNumber,
+                type.isReleaseCandidate() ? (lsb >> 22) & MASK_20_BITS : 0,
+                type.isSnapshot() ? lsb & MASK_20_BITS : 0);
+    }
+
+    /** Returns the {@link ExtendedCompactVersion} with the same components, which orders the same way. */
+    public ExtendedCompactVersion toExtended() {
+        return new ExtendedCompactVersion(extendedHigh(msb), extendedMiddle(msb, lsb), extendedLow(lsb));
+    }
+
+    /** Returns the high word of {@link #toExtended()} of the version with the given key. */
+    static long extendedHigh(long msb) {
+        return ExtendedCompactVersion.encodeHigh((msb >>> 32) & MASK_20_BITS, (msb >>> 12) & MASK_20_BITS);
+    }
+
+    /** Returns the middle word of {@link #toExtended()}, which shares the priority bits of the key. */
+    static long extendedMiddle(long msb, long lsb) {
+        long patchVersionNumber = ((msb & MASK_12_BITS) << 8) | ((lsb >>> 44) & MASK_8_BITS);
+        return (patchVersionNumber << 33) | (((lsb >>> 42) & MASK_2_BITS) << 31) | ((lsb >>> 22) & MASK_20_BITS);
+    }
+
+    /** Returns the low word of {@link #toExtended()}, which shares the priority bits of the key. */
+    static long extendedLow(long lsb) {
+        return (((lsb >>> 20) & MASK_2_BITS) << 31) | (lsb & MASK_20_BITS);
+    }
+
+    /** Builds the version with the given components, using the given git hash for snapshots. */
+    static OrderableSlsVersion buildSlsVersion(
+            SlsVersionType type,
+            int majorVersionNumber,
+            int minorVersionNumber,
+            int patchVersionNumber,
+            int rcNumber,
+            int distanceFromVersion,
+            String gitHash) {
         OptionalInt firstSeq = OptionalInt.empty();
         OptionalInt secondSeq = OptionalInt.empty();
         switch (type) {
@@ -168,11 +515,12 @@ public final class CompactVersion implements Comparable<CompactVersion> {
                         patchVersionNumber,
                         type,
                         rcNumber,
-                        distanceFromVersion))
+                        distanceFromVersion,
+                        gitHash))
                 .build();
     }
 
-    private static SlsVersionType typeFromPriority(int priority1, int priority2) {
+    static SlsVersionType typeFromPriority(int priority1, int priority2) {
         if (priority2 == 2) {
             return SlsVersionType.RELEASE_SNAPSHOT;
         } else if (priority2 == 1) {
@@ -185,15 +533,15 @@ public final class CompactVersion implements Comparable<CompactVersion> {
     }
 
     private static String generateVersionString(
-            int major, int minor, int patch, SlsVersionType type, int rcNumber, int distanceFromVersion) {
+            int major,
+            int minor,
+            int patch,
+            SlsVersionType type,
+            int rcNumber,
+            int distanceFromVersion,
+            String gitHash) {
         StringBuilder sb = new StringBuilder();
-        sb.append(major).append(".").append(minor).append(".").append(patch);
-        if (type.isReleaseCandidate()) {
-            sb.append("-rc").append(rcNumber);
-        }
-        if (type.isSnapshot()) {
-            sb.append("-").append(distanceFromVersion).append("-gaaaaaa");
-        }
+        VersionStrings.append(sb, type, major, minor, patch, rcNumber, distanceFromVersion, gitHash);
         return sb.toString();
     }
 
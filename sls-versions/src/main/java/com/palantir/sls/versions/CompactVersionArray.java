@@ -0,0 +1,365 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.UnsafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.annotation.Nullable;
+
+/**
+ * A growable list of {@link CompactVersion}s stored column-wise in two {@code long[]} arrays, one for
+ * {@link CompactVersion#getMsb()} and one for {@link CompactVersion#getLsb()}, so that each element costs 16 bytes
+ * rather than an object header and a reference on top of them, and scans read memory sequentially.
+ *
+ * <p>Elements can be read without allocating through {@link #getMsb(int)}, {@link #getLsb(int)} and
+ * {@link #forEach(KeyConsumer)}. The array keeps track of whether its elements were added in ascending order, in
+ * which case its {@link #spliterator()} reports {@link Spliterator#SORTED}.
+ *
+ * <p>Instances are not thread-safe. Spliterators and streams cover the elements present when they were created, and
+ * must not be used while elements are being added.
+ */
+public final class CompactVersionArray {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Arrays shorter than this are compared on the calling thread. */
+    private static final int PARALLEL_COMPARE_THRESHOLD = 1 << 16;
+
+    private long[] msbs;
+    private long[] lsbs;
+    private int size;
+    private boolean sorted = true;
+
+    public CompactVersionArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CompactVersionArray(int initialCapacity) {
+        Preconditions.checkArgument(
+                initialCapacity >= 0,
+                "initialCapacity must not be negative",
+                SafeArg.of("initialCapacity", initialCapacity));
+        this.msbs = new long[initialCapacity];
+        this.lsbs = new long[initialCapacity];
+    }
+
+    /** Receives the two halves of each element, as passed to {@link #forEach(KeyConsumer)}. */
+    @FunctionalInterface
+    public interface KeyConsumer {
+        void accept(long msb, long lsb);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Returns true iff every element is no less than the one before it, in the order of {@link CompactVersion}. */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    public void add(CompactVersion version) {
+        add(version.getMsb(), version.getLsb());
+    }
+
+    /**
+     * Appends the version with the given {@link CompactVersion#getMsb()} and {@link CompactVersion#getLsb()}, which
+     * must have been taken from a {@link CompactVersion}.
+     */
+    public void add(long msb, long lsb) {
+        if (size == msbs.length) {
+            grow(size + 1);
+        }
+        if (sorted && size > 0) {
+            long lastMsb = msbs[size - 1];
+            sorted = lastMsb < msb || (lastMsb == msb && lsbs[size - 1] <= lsb);
+        }
+        msbs[size] = msb;
+        lsbs[size] = lsb;
+        size++;
+    }
+
+    /**
+     * Parses each of the given strings as by {@link CompactVersion#parse(CharSequence)} and appends them in iteration
+     * order, without creating a {@link CompactVersion} for any of them. If any string is invalid, none are added.
+     *
+     * @throws SafeIllegalArgumentException if any value is not an orderable version representable as a
+     *     {@link CompactVersion}
+     */
+    public void addAll(Collection<? extends CharSequence> values) {
+        int originalSize = size;
+        boolean originalSorted = sorted;
+        if (msbs.length - size < values.size()) {
+            grow(size + values.size());
+        }
+        SlsVersionParser.Factory<Boolean> appender = this::appendComponents;
+        for (CharSequence value : values) {
+            if (value == null || SlsVersionParser.parse(value, appender) == null) {
+                size = originalSize;
+                sorted = originalSorted;
+                throw new SafeIllegalArgumentException(
+                        "Value is not an orderable version representable as a CompactVersion",
+                        UnsafeArg.of("value", value));
+            }
+        }
+    }
+
+    @Nullable
+    private Boolean appendComponents(
+            CharSequence _value,
+            SlsVersionType type,
+            int major,
+            int minor,
+            int patch,
+            int firstSequence,
+            int secondSequence) {
+        if (type == SlsVersionType.NON_ORDERABLE) {
+            return null;
+        }
+        int rcNumber = CompactVersion.rcNumber(type, firstSequence);
+        int distanceFromVersion = CompactVersion.distanceFromVersion(type, firstSequence, secondSequence);
+        if (!CompactVersion.fits20b(major, minor, patch, rcNumber, distanceFromVersion)) {
+            return null;
+        }
+        add(
+                CompactVersion.encodeMsb(major, minor, patch),
+                CompactVersion.encodeLsb(type, patch, rcNumber, distanceFromVersion));
+        return Boolean.TRUE;
+    }
+
+    private void grow(int minimumCapacity) {
+        int capacity = Math.max(minimumCapacity, msbs.length + (msbs.length >> 1) + 1);
+        msbs = Arrays.copyOf(msbs, capacity);
+        lsbs = Arrays.copyOf(lsbs, capacity);
+    }
+
+    /** Returns the element at the given index as a {@link CompactVersion}, which is unaffected by later changes. */
+    public CompactVersion get(int index) {
+        Objects.checkIndex(index, size);
+        return new CompactVersion(msbs[index], lsbs[index]);
+    }
+
+    /** Returns {@link CompactVersion#getMsb()} of the element at the given index. */
+    public long getMsb(int index) {
+        Objects.checkIndex(index, size);
+        return msbs[index];
+    }
+
+    /** Returns {@link CompactVersion#getLsb()} of the element at the given index. */
+    public long getLsb(int index) {
+        Objects.checkIndex(index, size);
+        return lsbs[index];
+    }
+
+    /** Passes the halves of each element to the given consumer in order, without creating any objects. */
+    public void forEach(KeyConsumer consumer) {
+        long[] msbArray = msbs;
+        long[] lsbArray = lsbs;
+        for (int i = 0; i < size; i++) {
+            consumer.accept(msbArray[i], lsbArray[i]);
+        }
+    }
+
+    /**
+     * Returns a bitset of the elements which the matcher {@link SlsVersionMatcher#matches(CompactVersion) matches}, in
+     * the layout of {@link java.util.BitSet#valueOf(long[])}: bit {@code i % 64} of word {@code i / 64} is set iff the
+     * element at index {@code i} matches. The matcher is applied to the columns in a single branch-free loop.
+     */
+    public long[] matchAll(SlsVersionMatcher matcher) {
+        long[] bits = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        matcher.compiled().matchAll(msbs, lsbs, size, bits);
+        return bits;
+    }
+
+    /**
+     * Compares each element of this array with the element at the same index of the other array, which must have the
+     * same size, and returns the results in the order of {@link CompactVersion#compareTo}: {@code -1} where this
+     * array's element is less, {@code 0} where they are equal and {@code 1} where it is greater. The loop reads all
+     * four columns sequentially and has no branches.
+     */
+    public int[] compareEach(CompactVersionArray other) {
+        checkSameSize(other);
+        int[] results = new int[size];
+        compareRange(this, other, results, 0, size);
+        return results;
+    }
+
+    /**
+     * The same as {@link #compareEach(CompactVersionArray)}, but splits large arrays into contiguous chunks compared by
+     * the threads of the common {@link ForkJoinPool}.
+     */
+    public int[] parallelCompareEach(CompactVersionArray other) {
+        checkSameSize(other);
+        int[] results = new int[size];
+        int length = size;
+        int chunks = Math.min(ForkJoinPool.getCommonPoolParallelism(), length / PARALLEL_COMPARE_THRESHOLD);
+        if (chunks < 2) {
+            compareRange(this, other, results, 0, length);
+        } else {
+            IntStream.range(0, chunks)
+                    .parallel()
+                    .forEach(chunk -> compareRange(
+                            this,
+                            other,
+                            results,
+                            (int) ((long) length * chunk / chunks),
+                            (int) ((long) length * (chunk + 1) / chunks)));
+        }
+        return results;
+    }
+
+    private void checkSameSize(CompactVersionArray other) {
+        Preconditions.checkArgument(
+                size == other.size,
+                "Arrays must have the same size",
+                SafeArg.of("size", size),
+                SafeArg.of("otherSize", other.size));
+    }
+
+    private static void compareRange(
+            CompactVersionArray left, CompactVersionArray right, int[] results, int from, int to) {
+        long[] leftMsbs = left.msbs;
+        long[] leftLsbs = left.lsbs;
+        long[] rightMsbs = right.msbs;
+        long[] rightLsbs = right.lsbs;
+        for (int i = from; i < to; i++) {
+            // the msb comparison outweighs the lsb comparison unless it is zero
+            results[i] = Integer.signum(
+                    2 * Long.compare(leftMsbs[i], rightMsbs[i]) + Long.compare(leftLsbs[i], rightLsbs[i]));
+        }
+    }
+
+    /**
+     * Sorts the elements into the order of {@link CompactVersion#compareTo}, using a stable radix sort which takes
+     * linear time in the number of elements.
+     */
+    public void sort() {
+        CompactVersionRadixSort.sort(msbs, lsbs, 0, size);
+        sorted = true;
+    }
+
+    /** The same as {@link #sort()}, but uses the threads of the common {@link ForkJoinPool} for large arrays. */
+    public void parallelSort() {
+        CompactVersionRadixSort.parallelSort(msbs, lsbs, 0, size);
+        sorted = true;
+    }
+
+    public void clear() {
+        size = 0;
+        sorted = true;
+    }
+
+    /**
+     * Returns a spliterator over the elements, which is {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED},
+     * {@link Spliterator#ORDERED} and {@link Spliterator#NONNULL}, and also {@link Spliterator#SORTED} in the natural
+     * order of {@link CompactVersion} if {@link #isSorted()}. It splits in halves, which suits parallel streams.
+     */
+    public Spliterator<CompactVersion> spliterator() {
+        return new CompactVersionSpliterator(msbs, lsbs, 0, size, sorted);
+    }
+
+    public Stream<CompactVersion> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<CompactVersion> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    private static final class CompactVersionSpliterator implements Spliterator<CompactVersion> {
+        private final long[] msbs;
+        private final long[] lsbs;
+        private final int fence;
+        private final boolean sorted;
+        private int index;
+
+        CompactVersionSpliterator(long[] msbs, long[] lsbs, int origin, int fence, boolean sorted) {
+            this.msbs = msbs;
+            this.lsbs = lsbs;
+            this.index = origin;
+            this.fence = fence;
+            this.sorted = sorted;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super CompactVersion> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(new CompactVersion(msbs[index], lsbs[index]));
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super CompactVersion> action) {
+            for (int i = index; i < fence; i++) {
+                action.accept(new CompactVersion(msbs[i], lsbs[i]));
+            }
+            index = fence;
+        }
+
+        @Nullable
+        @Override
+        public Spliterator<CompactVersion> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator<CompactVersion> prefix = new CompactVersionSpliterator(msbs, lsbs, index, mid, sorted);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            int characteristics = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.NONNULL;
+            return sorted ? characteristics | Spliterator.SORTED : characteristics;
+        }
+
+        @Nullable
+        @Override
+        public Comparator<? super CompactVersion> getComparator() {
+            if (!sorted) {
+                throw new SafeIllegalStateException("Spliterator is not sorted");
+            }
+            // sorted in the natural order
+            return null;
+        }
+    }
+}
@@ -0,0 +1,439 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import com.palantir.logsafe.UnsafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable sorted set of versions, stored as the two halves of their {@link CompactVersion} in primitive arrays,
+ * answering the navigation queries of {@link java.util.NavigableSet} by binary search.
+ *
+ * <p>Queries return the position of the matching element, from zero to {@link #size()} exclusive, or {@code -1} if
+ * there is none, and never allocate. The element at a position can then be read with {@link #getMsb(int)} and
+ * {@link #getLsb(int)}, or as a {@link CompactVersion} with {@link #get(int)}. Every query accepts a
+ * {@link CompactVersion}, an {@link OrderableSlsVersion} or a version string, the last of which is parsed in place.
+ * Like {@link java.util.TreeSet}, the index answers queries for any orderable version: those whose components do not
+ * fit in 20 bits are compared against the elements in {@link ExtendedCompactVersion} form, and are never contained.
+ *
+ * <p>{@link #subRange} returns a view of a contiguous range of this index, sharing its arrays.
+ */
+public final class CompactVersionIndex {
+    private static final CompactVersionIndex EMPTY = new CompactVersionIndex(new long[0], new long[0], 0, 0);
+
+    private final long[] msbs;
+    private final long[] lsbs;
+    private final int from;
+    private final int to;
+
+    private CompactVersionIndex(long[] msbs, long[] lsbs, int from, int to) {
+        this.msbs = msbs;
+        this.lsbs = lsbs;
+        this.from = from;
+        this.to = to;
+    }
+
+    /** Returns an index of the distinct elements of the given array, which is left unchanged. */
+    public static CompactVersionIndex of(CompactVersionArray versions) {
+        int size = versions.size();
+        long[] msbs = new long[size];
+        long[] lsbs = new long[size];
+        for (int i = 0; i < size; i++) {
+            msbs[i] = versions.getMsb(i);
+            lsbs[i] = versions.getLsb(i);
+        }
+        if (!versions.isSorted()) {
+            CompactVersionRadixSort.parallelSort(msbs, lsbs, 0, size);
+        }
+        return new CompactVersionIndex(msbs, lsbs, 0, removeDuplicates(msbs, lsbs, size));
+    }
+
+    /**
+     * Returns an index of the given versions.
+     *
+     * @throws SafeIllegalArgumentException if any version does not fit in a {@link CompactVersion}
+     */
+    public static CompactVersionIndex copyOf(Collection<? extends OrderableSlsVersion> versions) {
+        CompactVersionArray array = new CompactVersionArray(versions.size());
+        for (OrderableSlsVersion version : versions) {
+            array.add(CompactVersion.from(version));
+        }
+        return of(array);
+    }
+
+    /**
+     * Returns an index of the given version strings.
+     *
+     * @throws SafeIllegalArgumentException if any value is not an orderable version representable as a
+     *     {@link CompactVersion}
+     */
+    public static CompactVersionIndex parse(Collection<? extends CharSequence> values) {
+        CompactVersionArray array = new CompactVersionArray(values.size());
+        array.addAll(values);
+        return of(array);
+    }
+
+    /** Moves the first of each run of equal sorted keys to the front, and returns the number of distinct keys. */
+    private static int removeDuplicates(long[] msbs, long[] lsbs, int size) {
+        if (size == 0) {
+            return 0;
+        }
+        int distinct = 1;
+        for (int i = 1; i < size; i++) {
+            if (msbs[i] != msbs[distinct - 1] || lsbs[i] != lsbs[distinct - 1]) {
+                msbs[distinct] = msbs[i];
+                lsbs[distinct] = lsbs[i];
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+
+    public int size() {
+        return to - from;
+    }
+
+    public boolean isEmpty() {
+        return to == from;
+    }
+
+    /** Returns the element at the given position as a {@link CompactVersion}. */
+    public CompactVersion get(int index) {
+        Objects.checkIndex(index, size());
+        return new CompactVersion(msbs[from + index], lsbs[from + index]);
+    }
+
+    /** Returns {@link CompactVersion#getMsb()} of the element at the given position. */
+    public long getMsb(int index) {
+        Objects.checkIndex(index, size());
+        return msbs[from + index];
+    }
+
+    /** Returns {@link CompactVersion#getLsb()} of the element at the given position. */
+    public long getLsb(int index) {
+        Objects.checkIndex(index, size());
+        return lsbs[from + index];
+    }
+
+    /** Passes the halves of each element to the given consumer in ascending order. */
+    public void forEach(CompactVersionArray.KeyConsumer consumer) {
+        for (int i = from; i < to; i++) {
+            consumer.accept(msbs[i], lsbs[i]);
+        }
+    }
+
+    /** Returns the position of the given version, or {@code -1} if it is absent. */
+    public int indexOf(long msb, long lsb) {
+        int ceiling = lowerBound(msb, lsb);
+        return ceiling < to && msbs[ceiling] == msb && lsbs[ceiling] == lsb ? ceiling - from : -1;
+    }
+
+    /** Returns the position of the greatest element less than or equal to the given version, or {@code -1}. */
+    public int floor(long msb, long lsb) {
+        return position(upperBound(msb, lsb) - 1);
+    }
+
+    /** Returns the position of the least element greater than or equal to the given version, or {@code -1}. */
+    public int ceiling(long msb, long lsb) {
+        return position(lowerBound(msb, lsb));
+    }
+
+    /** Returns the position of the least element strictly greater than the given version, or {@code -1}. */
+    public int higher(long msb, long lsb) {
+        return position(upperBound(msb, lsb));
+    }
+
+    /** Returns the position of the greatest element strictly less than the given version, or {@code -1}. */
+    public int lower(long msb, long lsb) {
+        return position(lowerBound(msb, lsb) - 1);
+    }
+
+    public boolean contains(CompactVersion version) {
+        return indexOf(version.getMsb(), version.getLsb()) >= 0;
+    }
+
+    public int floor(CompactVersion version) {
+        return floor(version.getMsb(), version.getLsb());
+    }
+
+    public int ceiling(CompactVersion version) {
+        return ceiling(version.getMsb(), version.getLsb());
+    }
+
+    public int higher(CompactVersion version) {
+        return higher(version.getMsb(), version.getLsb());
+    }
+
+    public int lower(CompactVersion version) {
+        return lower(version.getMsb(), version.getLsb());
+    }
+
+    /** Returns true iff the index contains the given version, which is never the case if it is not compact. */
+    public boolean contains(OrderableSlsVersion version) {
+        long msb = version.sortKeyMsb();
+        return msb != CompactVersion.NO_SORT_KEY && indexOf(msb, version.sortKeyLsb()) >= 0;
+    }
+
+    public int floor(OrderableSlsVersion version) {
+        return position(upperBound(version) - 1);
+    }
+
+    public int ceiling(OrderableSlsVersion version) {
+        return position(lowerBound(version));
+    }
+
+    public int higher(OrderableSlsVersion version) {
+        return position(upperBound(version));
+    }
+
+    public int lower(OrderableSlsVersion version) {
+        return position(lowerBound(version) - 1);
+    }
+
+    /**
+     * Returns true iff the index contains the given version string.
+     *
+     * @throws SafeIllegalArgumentException if the value is not an orderable version, as do the other queries which
+     *     take a string
+     */
+    public boolean contains(CharSequence version) {
+        Probe probe = Probe.parse(version);
+        return probe.compact && indexOf(probe.msb, probe.lsb) >= 0;
+    }
+
+    public int floor(CharSequence version) {
+        return position(upperBound(Probe.parse(version)) - 1);
+    }
+
+    public int ceiling(CharSequence version) {
+        return position(lowerBound(Probe.parse(version)));
+    }
+
+    public int higher(CharSequence version) {
+        return position(upperBound(Probe.parse(version)));
+    }
+
+    public int lower(CharSequence version) {
+        return position(lowerBound(Probe.parse(version)) - 1);
+    }
+
+    /**
+     * Returns a view of the elements between the given versions, each of which is included in the range if it is
+     * present and its flag is set, like {@link java.util.NavigableSet#subSet(Object, boolean, Object, boolean)}.
+     * Positions in the view start from zero. If {@code fromVersion} is greater than {@code toVersion} the view is
+     * empty.
+     */
+    public CompactVersionIndex subRange(
+            CompactVersion fromVersion, boolean fromInclusive, CompactVersion toVersion, boolean toInclusive) {
+        int start = fromInclusive
+                ? lowerBound(fromVersion.getMsb(), fromVersion.getLsb())
+                : upperBound(fromVersion.getMsb(), fromVersion.getLsb());
+        int end = toInclusive
+                ? upperBound(toVersion.getMsb(), toVersion.getLsb())
+                : lowerBound(toVersion.getMsb(), toVersion.getLsb());
+        return range(start, end);
+    }
+
+    /** The same as {@link #subRange(CompactVersion, boolean, CompactVersion, boolean)}. */
+    public CompactVersionIndex subRange(
+            OrderableSlsVersion fromVersion,
+            boolean fromInclusive,
+            OrderableSlsVersion toVersion,
+            boolean toInclusive) {
+        int start = fromInclusive ? lowerBound(fromVersion) : upperBound(fromVersion);
+        int end = toInclusive ? upperBound(toVersion) : lowerBound(toVersion);
+        return range(start, end);
+    }
+
+    /** The same as {@link #subRange(CompactVersion, boolean, CompactVersion, boolean)}. */
+    public CompactVersionIndex subRange(
+            CharSequence fromVersion, boolean fromInclusive, CharSequence toVersion, boolean toInclusive) {
+        Probe fromProbe = Probe.parse(fromVersion);
+        Probe toProbe = Probe.parse(toVersion);
+        int start = fromInclusive ? lowerBound(fromProbe) : upperBound(fromProbe);
+        int end = toInclusive ? upperBound(toProbe) : lowerBound(toProbe);
+        return range(start, end);
+    }
+
+    /**
+     * Passes the halves of each element which the matcher {@link SlsVersionMatcher#matches(OrderableSlsVersion)
+     * matches} to the given consumer in ascending order. The candidates are found by binary search between the
+     * matcher's {@link SlsVersionMatcher#lowestCompactMatch() lowest} and
+     * {@link SlsVersionMatcher#highestCompactMatch() highest} match, and all but the release versions among them are
+     * skipped.
+     */
+    public void forEachMatch(SlsVersionMatcher matcher, CompactVersionArray.KeyConsumer consumer) {
+        Optional<CompactVersion> lowest = matcher.lowestCompactMatch();
+        Optional<CompactVersion> highest = matcher.highestCompactMatch();
+        if (lowest.isEmpty() || highest.isEmpty()) {
+            return;
+        }
+        int end = upperBound(highest.get().getMsb(), highest.get().getLsb());
+        for (int i = lowerBound(lowest.get().getMsb(), lowest.get().getLsb()); i < end; i++) {
+            if (CompactVersion.isRelease(lsbs[i])) {
+                consumer.accept(msbs[i], lsbs[i]);
+            }
+        }
+    }
+
+    private CompactVersionIndex range(int start, int end) {
+        return end <= start ? EMPTY : new CompactVersionIndex(msbs, lsbs, start, end);
+    }
+
+    private int position(int index) {
+        return index >= from && index < to ? index - from : -1;
+    }
+
+    private int lowerBound(OrderableSlsVersion version) {
+        long msb = version.sortKeyMsb();
+        return msb != CompactVersion.NO_SORT_KEY
+                ? lowerBound(msb, version.sortKeyLsb())
+                : extendedBound(
+                        ExtendedCompactVersion.encodeHigh(version),
+                        ExtendedCompactVersion.encodeMiddle(version),
+                        ExtendedCompactVersion.encodeLow(version));
+    }
+
+    private int upperBound(OrderableSlsVersion version) {
+        long msb = version.sortKeyMsb();
+        return msb != CompactVersion.NO_SORT_KEY
+                ? upperBound(msb, version.sortKeyLsb())
+                : extendedBound(
+                        ExtendedCompactVersion.encodeHigh(version),
+                        ExtendedCompactVersion.encodeMiddle(version),
+                        ExtendedCompactVersion.encodeLow(version));
+    }
+
+    private int lowerBound(Probe probe) {
+        return probe.compact ? lowerBound(probe.msb, probe.lsb) : extendedBound(probe.high, probe.middle, probe.low);
+    }
+
+    private int upperBound(Probe probe) {
+        return probe.compact ? upperBound(probe.msb, probe.lsb) : extendedBound(probe.high, probe.middle, probe.low);
+    }
+
+    /** Returns the absolute index of the first element no less than the given key, or {@link #to} if there is none. */
+    private int lowerBound(long msb, long lsb) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (msbs[mid] < msb || (msbs[mid] == msb && lsbs[mid] < lsb)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Returns the absolute index of the first element greater than the given key, or {@link #to} if there is none. */
+    private int upperBound(long msb, long lsb) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (msbs[mid] < msb || (msbs[mid] == msb && lsbs[mid] <= lsb)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the absolute index of the first element greater than the given {@link ExtendedCompactVersion}, which
+     * is also the first element no less than it, as a version which is not compact is equal to no element. Each
+     * element is expanded to its extended words as it is compared.
+     */
+    private int extendedBound(long extendedHigh, long extendedMiddle, long extendedLow) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareExtended(msbs[mid], lsbs[mid], extendedHigh, extendedMiddle, extendedLow) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int compareExtended(long msb, long lsb, long extendedHigh, long extendedMiddle, long extendedLow) {
+        int result = Long.compareUnsigned(CompactVersion.extendedHigh(msb), extendedHigh);
+        if (result != 0) {
+            return result;
+        }
+        result = Long.compareUnsigned(CompactVersion.extendedMiddle(msb, lsb), extendedMiddle);
+        return result != 0 ? result : Long.compareUnsigned(CompactVersion.extendedLow(lsb), extendedLow);
+    }
+
+    /**
+     * The key of a version string, written in place by the parser into a holder local to each query, which never
+     * escapes it and so can live on the stack. Versions which fit in a {@link CompactVersion} keep its halves, and the
+     * rest the words of their {@link ExtendedCompactVersion}.
+     */
+    private static final class Probe implements SlsVersionParser.Factory<Probe> {
+        private boolean compact;
+        private long msb;
+        private long lsb;
+        private long high;
+        private long middle;
+        private long low;
+
+        static Probe parse(@Nullable CharSequence value) {
+            Probe probe = value == null ? null : SlsVersionParser.parse(value, new Probe());
+            if (probe == null) {
+                throw new SafeIllegalArgumentException("Not an orderable version", UnsafeArg.of("value", value));
+            }
+            return probe;
+        }
+
+        @Nullable
+        @Override
+        public Probe create(
+                CharSequence _value,
+                SlsVersionType type,
+                int major,
+                int minor,
+                int patch,
+                int firstSequence,
+                int secondSequence) {
+            if (type == SlsVersionType.NON_ORDERABLE) {
+                return null;
+            }
+            int rcNumber = CompactVersion.rcNumber(type, firstSequence);
+            int distanceFromVersion = CompactVersion.distanceFromVersion(type, firstSequence, secondSequence);
+            compact = CompactVersion.fits20b(major, minor, patch, rcNumber, distanceFromVersion);
+            if (compact) {
+                msb = CompactVersion.encodeMsb(major, minor, patch);
+                lsb = CompactVersion.encodeLsb(type, patch, rcNumber, distanceFromVersion);
+            } else {
+                high = ExtendedCompactVersion.encodeHigh(major, minor);
+                middle = ExtendedCompactVersion.encodeMiddle(type, patch, rcNumber);
+                low = ExtendedCompactVersion.encodeLow(type, distanceFromVersion);
+            }
+            return this;
+        }
+    }
+}
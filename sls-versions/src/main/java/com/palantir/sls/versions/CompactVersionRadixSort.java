@@ -0,0 +1,262 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * A stable least-significant-digit radix sort of compact versions held in parallel msb and lsb arrays, sorting them
+ * into the order of {@link CompactVersion#compareTo}. Keys are split into bytes, and the arrays are permuted by one
+ * counting pass and one scatter pass per byte, starting from the lowest byte of the lsb and ending with the highest
+ * byte of the msb, for linear running time.
+ *
+ * <p>Bytes which are the same in every key do not affect the order, and are skipped. Compact versions use at most 52
+ * bits of each half, and real data tends to share most of its high bits, so usually far fewer than the 16 possible
+ * passes are made. The highest byte of each half has its sign bit flipped, so that arbitrary values sort the same way
+ * as the signed comparison in {@link CompactVersion#compareTo}.
+ */
+final class CompactVersionRadixSort {
+    private static final int BITS_PER_DIGIT = 8;
+    private static final int RADIX = 1 << BITS_PER_DIGIT;
+    private static final int DIGIT_MASK = RADIX - 1;
+    private static final int DIGITS_PER_HALF = Long.SIZE / BITS_PER_DIGIT;
+    private static final int INSERTION_SORT_THRESHOLD = 64;
+
+    /** Ranges shorter than this are sorted on the calling thread, as splitting them up costs more than it saves. */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private CompactVersionRadixSort() {}
+
+    /** Sorts the elements from {@code from}, inclusive, to {@code to}, exclusive, of both arrays together. */
+    static void sort(long[] msbs, long[] lsbs, int from, int to) {
+        int length = to - from;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            insertionSort(msbs, lsbs, from, to);
+            return;
+        }
+        long varyingMsbBits = varyingBits(msbs, from, to);
+        long varyingLsbBits = varyingBits(lsbs, from, to);
+        Buffers buffers = new Buffers(msbs, lsbs, from, length);
+        int[] counts = new int[RADIX];
+        for (int digit = 0; digit < 2 * DIGITS_PER_HALF; digit++) {
+            if (isVarying(digit, varyingMsbBits, varyingLsbBits)) {
+                countDigits(buffers, digit, 0, length, counts);
+                toOffsets(counts, buffers.targetFrom());
+                scatter(buffers, digit, 0, length, counts);
+                buffers.swap();
+            }
+        }
+        buffers.copyBack();
+    }
+
+    /**
+     * The same as {@link #sort}, but splits each pass across the threads of the common {@link ForkJoinPool}: every
+     * thread counts the digits of its own contiguous chunk, and then scatters that chunk to positions derived from the
+     * counts of all chunks before it, which keeps the sort stable.
+     */
+    static void parallelSort(long[] msbs, long[] lsbs, int from, int to) {
+        int length = to - from;
+        int chunks = Math.min(ForkJoinPool.getCommonPoolParallelism(), length / PARALLEL_THRESHOLD);
+        if (chunks < 2) {
+            sort(msbs, lsbs, from, to);
+            return;
+        }
+        long[] varying = new long[2 * chunks];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int start = chunkStart(from, length, chunks, chunk);
+            int end = chunkStart(from, length, chunks, chunk + 1);
+            varying[2 * chunk] = varyingBits(msbs, start, msbs[from], end);
+            varying[2 * chunk + 1] = varyingBits(lsbs, start, lsbs[from], end);
+        });
+        long varyingMsbBits = 0;
+        long varyingLsbBits = 0;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            varyingMsbBits |= varying[2 * chunk];
+            varyingLsbBits |= varying[2 * chunk + 1];
+        }
+        Buffers buffers = new Buffers(msbs, lsbs, from, length);
+        int[][] counts = new int[chunks][RADIX];
+        for (int digit = 0; digit < 2 * DIGITS_PER_HALF; digit++) {
+            if (isVarying(digit, varyingMsbBits, varyingLsbBits)) {
+                parallelPass(buffers, digit, length, counts);
+                buffers.swap();
+            }
+        }
+        buffers.copyBack();
+    }
+
+    private static void parallelPass(Buffers buffers, int digit, int length, int[][] counts) {
+        int chunks = counts.length;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> countDigits(
+                buffers,
+                digit,
+                chunkStart(0, length, chunks, chunk),
+                chunkStart(0, length, chunks, chunk + 1),
+                counts[chunk]));
+        int offset = buffers.targetFrom();
+        for (int bucket = 0; bucket < RADIX; bucket++) {
+            for (int[] chunkCounts : counts) {
+                int count = chunkCounts[bucket];
+                chunkCounts[bucket] = offset;
+                offset += count;
+            }
+        }
+        IntStream.range(0, chunks).parallel().forEach(chunk -> scatter(
+                buffers,
+                digit,
+                chunkStart(0, length, chunks, chunk),
+                chunkStart(0, length, chunks, chunk + 1),
+                counts[chunk]));
+    }
+
+    private static int chunkStart(int from, int length, int chunks, int chunk) {
+        return from + (int) ((long) length * chunk / chunks);
+    }
+
+    /** Returns the bits which differ between any of the given values. */
+    private static long varyingBits(long[] values, int from, int to) {
+        return varyingBits(values, from, values[from], to);
+    }
+
+    private static long varyingBits(long[] values, int from, long reference, int to) {
+        long varying = 0;
+        for (int i = from; i < to; i++) {
+            varying |= values[i] ^ reference;
+        }
+        return varying;
+    }
+
+    private static boolean isVarying(int digit, long varyingMsbBits, long varyingLsbBits) {
+        long varying = digit < DIGITS_PER_HALF ? varyingLsbBits : varyingMsbBits;
+        return ((varying >>> shift(digit)) & DIGIT_MASK) != 0;
+    }
+
+    private static int shift(int digit) {
+        return (digit % DIGITS_PER_HALF) * BITS_PER_DIGIT;
+    }
+
+    /** Returns the value to xor each digit with, which flips the sign bit of the highest byte of each half. */
+    private static int flip(int digit) {
+        return digit % DIGITS_PER_HALF == DIGITS_PER_HALF - 1 ? RADIX >> 1 : 0;
+    }
+
+    /** Counts the digits of the source elements at the given positions, relative to the start of the range. */
+    private static void countDigits(Buffers buffers, int digit, int start, int end, int[] counts) {
+        Arrays.fill(counts, 0);
+        long[] keys = digit < DIGITS_PER_HALF ? buffers.sourceLsbs : buffers.sourceMsbs;
+        int shift = shift(digit);
+        int flip = flip(digit);
+        int base = buffers.sourceFrom;
+        for (int i = base + start; i < base + end; i++) {
+            counts[((int) (keys[i] >>> shift) & DIGIT_MASK) ^ flip]++;
+        }
+    }
+
+    private static void toOffsets(int[] counts, int targetFrom) {
+        int offset = targetFrom;
+        for (int bucket = 0; bucket < RADIX; bucket++) {
+            int count = counts[bucket];
+            counts[bucket] = offset;
+            offset += count;
+        }
+    }
+
+    /** Moves the source elements at the given positions to the next target position of their digit's bucket. */
+    private static void scatter(Buffers buffers, int digit, int start, int end, int[] offsets) {
+        long[] msbs = buffers.sourceMsbs;
+        long[] lsbs = buffers.sourceLsbs;
+        long[] keys = digit < DIGITS_PER_HALF ? lsbs : msbs;
+        long[] targetMsbs = buffers.targetMsbs;
+        long[] targetLsbs = buffers.targetLsbs;
+        int shift = shift(digit);
+        int flip = flip(digit);
+        int base = buffers.sourceFrom;
+        for (int i = base + start; i < base + end; i++) {
+            int target = offsets[((int) (keys[i] >>> shift) & DIGIT_MASK) ^ flip]++;
+            targetMsbs[target] = msbs[i];
+            targetLsbs[target] = lsbs[i];
+        }
+    }
+
+    private static void insertionSort(long[] msbs, long[] lsbs, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long msb = msbs[i];
+            long lsb = lsbs[i];
+            int j = i - 1;
+            while (j >= from && (msbs[j] > msb || (msbs[j] == msb && lsbs[j] > lsb))) {
+                msbs[j + 1] = msbs[j];
+                lsbs[j + 1] = lsbs[j];
+                j--;
+            }
+            msbs[j + 1] = msb;
+            lsbs[j + 1] = lsb;
+        }
+    }
+
+    /**
+     * The arrays being sorted and a scratch copy of the same length, which swap roles as source and target after each
+     * pass. The range being sorted starts at {@code from} in the original arrays and at zero in the scratch arrays.
+     */
+    private static final class Buffers {
+        private final long[] originalMsbs;
+        private final int originalFrom;
+        private long[] sourceMsbs;
+        private long[] sourceLsbs;
+        private int sourceFrom;
+        private long[] targetMsbs;
+        private long[] targetLsbs;
+        private int targetFrom;
+
+        Buffers(long[] msbs, long[] lsbs, int from, int length) {
+            this.originalMsbs = msbs;
+            this.originalFrom = from;
+            this.sourceMsbs = msbs;
+            this.sourceLsbs = lsbs;
+            this.sourceFrom = from;
+            this.targetMsbs = new long[length];
+            this.targetLsbs = new long[length];
+            this.targetFrom = 0;
+        }
+
+        int targetFrom() {
+            return targetFrom;
+        }
+
+        void swap() {
+            long[] msbs = sourceMsbs;
+            long[] lsbs = sourceLsbs;
+            int from = sourceFrom;
+            sourceMsbs = targetMsbs;
+            sourceLsbs = targetLsbs;
+            sourceFrom = targetFrom;
+            targetMsbs = msbs;
+            targetLsbs = lsbs;
+            targetFrom = from;
+        }
+
+        /** Copies the result into the original arrays, if an odd number of passes left it in the scratch arrays. */
+        void copyBack() {
+            if (sourceMsbs != originalMsbs) {
+                int length = sourceMsbs.length;
+                System.arraycopy(sourceMsbs, 0, targetMsbs, originalFrom, length);
+                System.arraycopy(sourceLsbs, 0, targetLsbs, originalFrom, length);
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import com.palantir.logsafe.UnsafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link CompactVersion} which additionally keeps the git hash of snapshot versions, so that {@link #toSlsVersion()}
+ * returns a version with exactly the original string rather than one using {@code gaaaaaa}.
+ *
+ * <p>The hash is packed into a third {@code long}, four bits per hex digit, with the number of digits in the highest
+ * four bits, so hashes of up to {@value #MAX_GIT_HASH_LENGTH} digits can be stored. Releases and release candidates
+ * have no hash, and store zero. Only canonical version strings are accepted, that is, strings without leading zeros
+ * in their numeric components, since those could not be reproduced.
+ *
+ * <p>As with {@link OrderableSlsVersion}, the git hash does not take part in ordering: {@link #compareTo} compares
+ * only the {@link CompactVersion}, while {@link #equals} also compares the hash. This means the natural ordering is
+ * inconsistent with equals, in the same way as {@link java.math.BigDecimal}.
+ */
+public final class CompactVersionWithHash implements Comparable<CompactVersionWithHash> {
+    /** The longest git hash which can be stored, not counting its leading {@code g}. */
+    public static final int MAX_GIT_HASH_LENGTH = 15;
+
+    private static final int BITS_PER_DIGIT = 4;
+    private static final int LENGTH_SHIFT = 60;
+
+    private final long msb;
+    private final long lsb;
+    private final long gitHash;
+
+    private CompactVersionWithHash(long msb, long lsb, long gitHash) {
+        this.msb = msb;
+        this.lsb = lsb;
+        this.gitHash = gitHash;
+    }
+
+    /** The same as {@link CompactVersion#getMsb()}. */
+    public long getMsb() {
+        return msb;
+    }
+
+    /** The same as {@link CompactVersion#getLsb()}. */
+    public long getLsb() {
+        return lsb;
+    }
+
+    /** The packed git hash, or zero for versions which are not snapshots. */
+    public long getGitHash() {
+        return gitHash;
+    }
+
+    /**
+     * Returns the compact form of the given version, including its git hash.
+     *
+     * @throws SafeIllegalArgumentException if the version does not fit in a {@link CompactVersion}, its string is not
+     *     canonical, or its git hash is longer than {@value #MAX_GIT_HASH_LENGTH} digits
+     */
+    public static CompactVersionWithHash from(OrderableSlsVersion version) {
+        return parse(version.getValue());
+    }
+
+    /**
+     * Parses an orderable version string straight into its compact representation, including its git hash.
+     *
+     * @throws SafeIllegalArgumentException if the value is not an orderable version, any of its numeric components
+     *     does not fit in 20 bits, it is not canonical, or its git hash is longer than {@value #MAX_GIT_HASH_LENGTH}
+     *     digits
+     */
+    public static CompactVersionWithHash parse(CharSequence value) {
+        CompactVersionWithHash version =
+                value == null ? null : SlsVersionParser.parse(value, CompactVersionWithHash::fromComponents);
+        if (version == null) {
+            throw new SafeIllegalArgumentException(
+                    "Value is not an orderable version representable as a CompactVersionWithHash",
+                    UnsafeArg.of("value", value));
+        }
+        return version;
+    }
+
+    /** The same as {@link #parse(CharSequence)}, but will return {@link Optional#empty} if it would have thrown. */
+    public static Optional<CompactVersionWithHash> tryParse(CharSequence value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(SlsVersionParser.parse(value, CompactVersionWithHash::fromComponents));
+    }
+
+    @Nullable
+    private static CompactVersionWithHash fromComponents(
+            CharSequence value,
+            SlsVersionType type,
+            int major,
+            int minor,
+            int patch,
+            int firstSequence,
+            int secondSequence) {
+        if (type == SlsVersionType.NON_ORDERABLE) {
+            return null;
+        }
+        int rcNumber = CompactVersion.rcNumber(type, firstSequence);
+        int distanceFromVersion = CompactVersion.distanceFromVersion(type, firstSequence, secondSequence);
+        CompactVersion version = CompactVersion.encodeIfFits(type, major, minor, patch, rcNumber, distanceFromVersion);
+        if (version == null) {
+            return null;
+        }
+        int gitHashLength = type.isSnapshot() ? gitHashLength(value) : 0;
+        if (gitHashLength > MAX_GIT_HASH_LENGTH) {
+            return null;
+        }
+        int canonicalLength =
+                VersionStrings.length(type, major, minor, patch, rcNumber, distanceFromVersion, gitHashLength);
+        if (canonicalLength != value.length()) {
+            // the parser already validated the structure, so any extra characters are leading zeros
+            return null;
+        }
+        return new CompactVersionWithHash(
+                version.getMsb(), version.getLsb(), encodeGitHash(value, value.length() - gitHashLength));
+    }
+
+    /** Returns the number of hex digits at the end of a snapshot version, which the parser requires to follow a g. */
+    private static int gitHashLength(CharSequence value) {
+        int start = value.length();
+        while (value.charAt(start - 1) != 'g') {
+            start--;
+        }
+        return value.length() - start;
+    }
+
+    private static long encodeGitHash(CharSequence value, int start) {
+        int length = value.length() - start;
+        if (length == 0) {
+            return 0;
+        }
+        long digits = 0;
+        for (int i = start; i < value.length(); i++) {
+            digits = (digits << BITS_PER_DIGIT) | Character.digit(value.charAt(i), 16);
+        }
+        return ((long) length << LENGTH_SHIFT) | digits;
+    }
+
+    private String decodeGitHash() {
+        int length = (int) (gitHash >>> LENGTH_SHIFT);
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            int shift = (length - 1 - i) * BITS_PER_DIGIT;
+            chars[i] = Character.forDigit((int) (gitHash >>> shift) & 0xF, 16);
+        }
+        return new String(chars);
+    }
+
+    /** Returns the compact form of this version without its git hash. */
+    public CompactVersion toCompactVersion() {
+        return new CompactVersion(msb, lsb);
+    }
+
+    /** Returns an {@link OrderableSlsVersion} whose string is exactly the one this version was created from. */
+    public OrderableSlsVersion toSlsVersion() {
+        return CompactVersion.toSlsVersion(msb, lsb, decodeGitHash());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CompactVersionWithHash)) {
+            return false;
+        }
+        CompactVersionWithHash other = (CompactVersionWithHash) obj;
+        return msb == other.msb && lsb == other.lsb && gitHash == other.gitHash;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Long.hashCode(msb) + Long.hashCode(lsb)) + Long.hashCode(gitHash);
+    }
+
+    /** Compares the versions as {@link CompactVersion#compareTo} does, ignoring the git hash as SLS requires. */
+    @Override
+    public int compareTo(CompactVersionWithHash other) {
+        if (msb != other.msb) {
+            return msb < other.msb ? -1 : 1;
+        }
+        if (lsb != other.lsb) {
+            return lsb < other.lsb ? -1 : 1;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+
+/**
+ * The components of an {@link SlsVersionMatcher} as masks and values over the words of {@link CompactVersion} and
+ * {@link ExtendedCompactVersion} keys. Masking a key keeps the bits of the components which the matcher specifies,
+ * and comparing the masked words to the values, from the highest word to the lowest, compares the matcher to the
+ * version. A matcher which specifies every component is compared as the equivalent release version, so its masks
+ * keep every bit.
+ */
+final class CompiledVersionMatcher {
+    private static final long MAJOR_MSB_MASK = 0xFFFFFL << 32;
+    private static final long MINOR_MSB_MASK = 0xFFFFFL << 12;
+    private static final long PATCH_MSB_MASK = 0xFFFL;
+    private static final long PATCH_LSB_MASK = 0xFFL << 44;
+    private static final long PRIORITY2_LSB_MASK = 0x3L << 42;
+    private static final long RELEASE_PRIORITY2 = CompactVersion.encodePriority2(SlsVersionType.RELEASE) << 42;
+    private static final long MAJOR_HIGH_MASK = 0xFFFFFFFFL << 32;
+    private static final long MINOR_HIGH_MASK = 0xFFFFFFFFL;
+    private static final long PATCH_MIDDLE_MASK = ~0L << 33;
+    private static final long ALL_BITS = ~0L;
+
+    private final long highMask;
+    private final long highValue;
+    private final long middleMask;
+    private final long middleValue;
+    private final long lowMask;
+    private final long lowValue;
+
+    /** False if any component is too large for a {@link CompactVersion}, so that no compact version can match. */
+    private final boolean compact;
+
+    private final long msbMask;
+    private final long msbValue;
+    private final long lsbMask;
+    private final long lsbValue;
+
+    /** The lsb mask and value for {@link #matches}, which also check that the version is a release. */
+    private final long matchLsbMask;
+
+    private final long matchLsbValue;
+
+    private CompiledVersionMatcher(OptionalInt major, OptionalInt minor, OptionalInt patch) {
+        boolean complete = major.isPresent() && minor.isPresent() && patch.isPresent();
+        this.highMask = complete ? ALL_BITS : mask(major, MAJOR_HIGH_MASK) | mask(minor, MINOR_HIGH_MASK);
+        this.middleMask = complete ? ALL_BITS : mask(patch, PATCH_MIDDLE_MASK);
+        this.lowMask = complete ? ALL_BITS : 0;
+        this.msbMask = complete
+                ? ALL_BITS
+                : mask(major, MAJOR_MSB_MASK) | mask(minor, MINOR_MSB_MASK) | mask(patch, PATCH_MSB_MASK);
+        this.lsbMask = complete ? ALL_BITS : mask(patch, PATCH_LSB_MASK);
+
+        // absent components are zero, and cleared by the masks anyway
+        int majorValue = major.orElse(0);
+        int minorValue = minor.orElse(0);
+        int patchValue = patch.orElse(0);
+        this.highValue = ExtendedCompactVersion.encodeHigh(majorValue, minorValue) & highMask;
+        this.middleValue = ExtendedCompactVersion.encodeMiddle(SlsVersionType.RELEASE, patchValue, 0) & middleMask;
+        this.lowValue = ExtendedCompactVersion.encodeLow(SlsVersionType.RELEASE, 0) & lowMask;
+        this.compact = CompactVersion.fits20b(majorValue, minorValue, patchValue, 0, 0);
+        this.msbValue = CompactVersion.encodeMsb(majorValue, minorValue, patchValue) & msbMask;
+        this.lsbValue = CompactVersion.encodeLsb(SlsVersionType.RELEASE, patchValue, 0, 0) & lsbMask;
+        this.matchLsbMask = lsbMask | PRIORITY2_LSB_MASK;
+        this.matchLsbValue = lsbValue | RELEASE_PRIORITY2;
+    }
+
+    static CompiledVersionMatcher compile(OptionalInt major, OptionalInt minor, OptionalInt patch) {
+        return new CompiledVersionMatcher(major, minor, patch);
+    }
+
+    private static long mask(OptionalInt component, long mask) {
+        return component.isPresent() ? mask : 0;
+    }
+
+    /** Compares the matcher to the version with the given {@link ExtendedCompactVersion} words. */
+    int compare(long high, long middle, long low) {
+        if (highValue != (high & highMask)) {
+            return Long.compareUnsigned(highValue, high & highMask);
+        }
+        if (middleValue != (middle & middleMask)) {
+            return Long.compareUnsigned(middleValue, middle & middleMask);
+        }
+        return Long.compareUnsigned(lowValue, low & lowMask);
+    }
+
+    /** Returns false if the matcher can only be compared to a {@link CompactVersion} by decoding it. */
+    boolean isCompact() {
+        return compact;
+    }
+
+    /** Compares the matcher to the given {@link CompactVersion}, which requires {@link #isCompact()}. */
+    int compare(long msb, long lsb) {
+        if (msbValue != (msb & msbMask)) {
+            return Long.compare(msbValue, msb & msbMask);
+        }
+        return Long.compare(lsbValue, lsb & lsbMask);
+    }
+
+    /** Returns true iff the given {@link CompactVersion} is a release version which compares equal to the matcher. */
+    boolean matches(long msb, long lsb) {
+        return compact && (msb & msbMask) == msbValue && (lsb & matchLsbMask) == matchLsbValue;
+    }
+
+    /**
+     * Sets bit {@code i % 64} of {@code bits[i / 64]} iff the {@code i}th of the first {@code size} compact versions
+     * in the given columns {@link #matches}, and clears it otherwise. Each word of the result is built from 64 rows
+     * without branching: a row matches iff both masked halves are equal to the values, so iff the bitwise or of their
+     * differences is zero.
+     */
+    void matchAll(long[] msbs, long[] lsbs, int size, long[] bits) {
+        int words = (size + Long.SIZE - 1) / Long.SIZE;
+        if (!compact) {
+            Arrays.fill(bits, 0, words, 0);
+            return;
+        }
+        int fullWords = size / Long.SIZE;
+        for (int word = 0; word < fullWords; word++) {
+            bits[word] = matchWord(msbs, lsbs, word * Long.SIZE, Long.SIZE);
+        }
+        if (fullWords < words) {
+            bits[fullWords] = matchWord(msbs, lsbs, fullWords * Long.SIZE, size % Long.SIZE);
+        }
+    }
+
+    private long matchWord(long[] msbs, long[] lsbs, int from, int count) {
+        long word = 0;
+        for (int bit = 0; bit < count; bit++) {
+            long difference = ((msbs[from + bit] & msbMask) ^ msbValue)
+                    | ((lsbs[from + bit] & matchLsbMask) ^ matchLsbValue);
+            // the highest bit of (difference - 1) & ~difference is set iff difference is zero
+            word |= (((difference - 1) & ~difference) >>> (Long.SIZE - 1)) << bit;
+        }
+        return word;
+    }
+}
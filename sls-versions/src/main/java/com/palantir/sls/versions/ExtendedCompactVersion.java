@@ -0,0 +1,235 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.UnsafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/**
+ * A compact representation of {@link OrderableSlsVersion} like {@link CompactVersion}, but covering the full
+ * non-negative {@code int} range of every numeric component, such as date-stamped patch numbers like
+ * {@code 1.0.20240115}. Five 31-bit components and the type do not fit in 128 bits, so three {@code long}s are used.
+ * They order versions the same way as {@link VersionComparator} when compared as unsigned numbers, from high to low,
+ * or equivalently when their 24 big-endian bytes are compared lexicographically.
+ *
+ * <p>Bits are allocated as follows, from lowest bits to highest: <code>
+ * High:
+ * 31 bits: minor
+ *  1 bit:  unused
+ * 31 bits: major
+ *  1 bit:  unused
+ *
+ * Middle:
+ * 31 bits: RC number
+ *  2 bits: priority2 (as in CompactVersion)
+ * 31 bits: patch
+ *
+ * Low:
+ * 31 bits: distance from release
+ *  2 bits: priority1 (as in CompactVersion)
+ * 31 bits: unused
+ * </code>
+ *
+ * <p>Existing {@link CompactVersion}s keep their layout, and can be widened with {@link CompactVersion#toExtended()}.
+ */
+public final class ExtendedCompactVersion implements Comparable<ExtendedCompactVersion> {
+    private static final int MASK_31_BITS = Integer.MAX_VALUE;
+    private static final int MASK_2_BITS = 0x3;
+
+    private final long high;
+    private final long middle;
+    private final long low;
+
+    ExtendedCompactVersion(long high, long middle, long low) {
+        this.high = high;
+        this.middle = middle;
+        this.low = low;
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public long getMiddle() {
+        return middle;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    public static ExtendedCompactVersion from(OrderableSlsVersion version) {
+        SlsVersionType type = version.getType();
+        int first = version.firstSequenceVersionNumber().orElse(0);
+        int second = version.secondSequenceVersionNumber().orElse(0);
+        int rcNumber = CompactVersion.rcNumber(type, first);
+        int distanceFromVersion = CompactVersion.distanceFromVersion(type, first, second);
+        int major = version.getMajorVersionNumber();
+        int minor = version.getMinorVersionNumber();
+        int patch = version.getPatchVersionNumber();
+        Preconditions.checkArgument(
+                (major | minor | patch | rcNumber | distanceFromVersion) >= 0,
+                "version components must not be negative",
+                SafeArg.of("version", version));
+        return encode(type, major, minor, patch, rcNumber, distanceFromVersion);
+    }
+
+    /**
+     * Parses an orderable version string straight into its extended compact representation.
+     *
+     * @throws SafeIllegalArgumentException if the value is not an orderable version
+     */
+    public static ExtendedCompactVersion parse(CharSequence value) {
+        ExtendedCompactVersion version =
+                value == null ? null : SlsVersionParser.parse(value, ExtendedCompactVersion::fromComponents);
+        if (version == null) {
+            throw new SafeIllegalArgumentException("Not an orderable version", UnsafeArg.of("value", value));
+        }
+        return version;
+    }
+
+    /** The same as {@link #parse(CharSequence)}, but will return {@link Optional#empty} if the format is invalid. */
+    public static Optional<ExtendedCompactVersion> tryParse(CharSequence value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(SlsVersionParser.parse(value, ExtendedCompactVersion::fromComponents));
+    }
+
+    @Nullable
+    private static ExtendedCompactVersion fromComponents(
+            CharSequence _value,
+            SlsVersionType type,
+            int major,
+            int minor,
+            int patch,
+            int firstSequence,
+            int secondSequence) {
+        if (type == SlsVersionType.NON_ORDERABLE) {
+            return null;
+        }
+        return encode(
+                type,
+                major,
+                minor,
+                patch,
+                CompactVersion.rcNumber(type, firstSequence),
+                CompactVersion.distanceFromVersion(type, firstSequence, secondSequence));
+    }
+
+    static ExtendedCompactVersion encode(
+            SlsVersionType type, long major, long minor, long patch, long rcNumber, long distanceFromVersion) {
+        return new ExtendedCompactVersion(
+                encodeHigh(major, minor), encodeMiddle(type, patch, rcNumber), encodeLow(type, distanceFromVersion));
+    }
+
+    static long encodeHigh(long major, long minor) {
+        return (major << 32) | minor;
+    }
+
+    static long encodeMiddle(SlsVersionType type, long patch, long rcNumber) {
+        return (patch << 33) | (CompactVersion.encodePriority2(type) << 31) | rcNumber;
+    }
+
+    static long encodeLow(SlsVersionType type, long distanceFromVersion) {
+        return (CompactVersion.encodePriority1(type) << 31) | distanceFromVersion;
+    }
+
+    /** Returns the high word of {@link #from(OrderableSlsVersion)}, without checking the components. */
+    static long encodeHigh(OrderableSlsVersion version) {
+        return encodeHigh(version.getMajorVersionNumber(), version.getMinorVersionNumber());
+    }
+
+    static long encodeMiddle(OrderableSlsVersion version) {
+        SlsVersionType type = version.getType();
+        return encodeMiddle(
+                type, version.getPatchVersionNumber(), CompactVersion.rcNumber(type, version.firstSequenceNumber()));
+    }
+
+    static long encodeLow(OrderableSlsVersion version) {
+        SlsVersionType type = version.getType();
+        return encodeLow(
+                type,
+                CompactVersion.distanceFromVersion(
+                        type, version.firstSequenceNumber(), version.secondSequenceNumber()));
+    }
+
+    /**
+     * Returns the equivalent {@link CompactVersion}, or {@link Optional#empty} if any numeric component does not fit
+     * in its 20 bits.
+     */
+    public Optional<CompactVersion> toCompactVersion() {
+        return Optional.ofNullable(CompactVersion.encodeIfFits(
+                type(),
+                (int) (high >>> 32) & MASK_31_BITS,
+                (int) high & MASK_31_BITS,
+                (int) (middle >>> 33) & MASK_31_BITS,
+                (int) middle & MASK_31_BITS,
+                (int) low & MASK_31_BITS));
+    }
+
+    /**
+     * Returns an {@link OrderableSlsVersion} equivalent to this object. As with {@link CompactVersion#toSlsVersion()},
+     * the git hash of snapshot versions will always be set to {@code gaaaaaa}.
+     */
+    public OrderableSlsVersion toSlsVersion() {
+        return CompactVersion.buildSlsVersion(
+                type(),
+                (int) (high >>> 32) & MASK_31_BITS,
+                (int) high & MASK_31_BITS,
+                (int) (middle >>> 33) & MASK_31_BITS,
+                (int) middle & MASK_31_BITS,
+                (int) low & MASK_31_BITS,
+                CompactVersion.DEFAULT_GIT_HASH);
+    }
+
+    SlsVersionType type() {
+        return CompactVersion.typeFromPriority((int) (low >>> 31) & MASK_2_BITS, (int) (middle >>> 31) & MASK_2_BITS);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof ExtendedCompactVersion)) {
+            return false;
+        }
+        ExtendedCompactVersion other = (ExtendedCompactVersion) obj;
+        return high == other.high && middle == other.middle && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Long.hashCode(high) + Long.hashCode(middle)) + Long.hashCode(low);
+    }
+
+    @Override
+    public int compareTo(ExtendedCompactVersion other) {
+        if (high != other.high) {
+            return Long.compareUnsigned(high, other.high);
+        }
+        if (middle != other.middle) {
+            return Long.compareUnsigned(middle, other.middle);
+        }
+        return Long.compareUnsigned(low, other.low);
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.OptionalInt;
+import javax.annotation.Nullable;
+
+/**
+ * An {@link OrderableSlsVersion} which holds only its already validated characters and type, and decodes the numeric
+ * components the first time any of them is read.
+ *
+ * <p>Versions parsed from a {@link String} keep it. Versions parsed from any other {@link CharSequence}, or from
+ * bytes, keep a copy of their characters as ASCII bytes instead, and only build the {@link String} the first time
+ * {@link #getValue()} or {@link #toString()} is called. Equality between lazy versions, {@link #appendTo} and
+ * {@link #writeAscii} read the bytes directly.
+ *
+ * <p>Decoding only reads the digits back out of the characters, which are known to be valid, rather than parsing
+ * them again. The numbers are cached in a small {@link Components} object without any locking, in the same way
+ * {@link String#hashCode()} caches its hash: every field of it is final, so a thread either sees it fully constructed
+ * or sees {@code null} and decodes the characters itself, producing an equal instance. The string is cached the same
+ * way.
+ */
+final class LazyOrderableSlsVersion extends OrderableSlsVersion {
+    private static final long serialVersionUID = 1L;
+
+    /** The version string, which is only built when requested unless the version was parsed from a string. */
+    @Nullable
+    private String value;
+
+    /** The characters of the version as ASCII bytes, if it was not parsed from a string, or null otherwise. */
+    @Nullable
+    private final byte[] ascii;
+
+    private final SlsVersionType type;
+
+    @Nullable
+    private transient Components components;
+
+    private LazyOrderableSlsVersion(@Nullable String value, @Nullable byte[] ascii, SlsVersionType type) {
+        this.value = value;
+        this.ascii = ascii;
+        this.type = type;
+    }
+
+    /** A {@link SlsVersionParser.Factory} of lazy instances, rejecting non-orderable versions. */
+    @Nullable
+    static OrderableSlsVersion construct(
+            CharSequence value,
+            SlsVersionType type,
+            int _major,
+            int _minor,
+            int _patch,
+            int _firstSequence,
+            int _secondSequence) {
+        if (type == SlsVersionType.NON_ORDERABLE) {
+            return null;
+        }
+        if (value instanceof String) {
+            return new LazyOrderableSlsVersion((String) value, null, type);
+        }
+        return new LazyOrderableSlsVersion(null, toAscii(value), type);
+    }
+
+    /** Copies the characters of a valid version, all of which are ASCII, one byte each. */
+    private static byte[] toAscii(CharSequence value) {
+        if (value instanceof ByteCharSequence) {
+            return ((ByteCharSequence) value).toByteArray();
+        }
+        byte[] bytes = new byte[value.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) value.charAt(i);
+        }
+        return bytes;
+    }
+
+    private int length() {
+        byte[] bytes = ascii;
+        return bytes != null ? bytes.length : getValue().length();
+    }
+
+    private char charAt(int index) {
+        byte[] bytes = ascii;
+        return bytes != null ? (char) bytes[index] : getValue().charAt(index);
+    }
+
+    private Components components() {
+        Components result = components;
+        if (result == null) {
+            result = new Components(this);
+            components = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String getValue() {
+        String result = value;
+        if (result == null) {
+            // only versions which were not parsed from a string start without one, and they always have bytes
+            result = new String(Objects.requireNonNull(ascii), StandardCharsets.US_ASCII);
+            value = result;
+        }
+        return result;
+    }
+
+    @Override
+    public SlsVersionType getType() {
+        return type;
+    }
+
+    @Override
+    public int getMajorVersionNumber() {
+        return components().major;
+    }
+
+    @Override
+    public int getMinorVersionNumber() {
+        return components().minor;
+    }
+
+    @Override
+    public int getPatchVersionNumber() {
+        return components().patch;
+    }
+
+    @Override
+    public OptionalInt firstSequenceVersionNumber() {
+        int firstSequence = components().firstSequence;
+        return firstSequence == SlsVersionParser.NO_SEQUENCE_NUMBER
+                ? OptionalInt.empty()
+                : OptionalInt.of(firstSequence);
+    }
+
+    @Override
+    public OptionalInt secondSequenceVersionNumber() {
+        int secondSequence = components().secondSequence;
+        return secondSequence == SlsVersionParser.NO_SEQUENCE_NUMBER
+                ? OptionalInt.empty()
+                : OptionalInt.of(secondSequence);
+    }
+
+    @Override
+    int firstSequenceNumber() {
+        return components().firstSequence;
+    }
+
+    @Override
+    int secondSequenceNumber() {
+        return components().secondSequence;
+    }
+
+    @Override
+    long sortKeyMsb() {
+        return components().sortKeyMsb;
+    }
+
+    @Override
+    long sortKeyLsb() {
+        return components().sortKeyLsb;
+    }
+
+    @Override
+    StringBuilder appendValueTo(StringBuilder builder) {
+        byte[] bytes = ascii;
+        if (bytes == null) {
+            return builder.append(getValue());
+        }
+        for (byte ch : bytes) {
+            builder.append((char) ch);
+        }
+        return builder;
+    }
+
+    @Override
+    Appendable appendValueTo(Appendable appendable) throws IOException {
+        byte[] bytes = ascii;
+        if (bytes == null) {
+            return appendable.append(getValue());
+        }
+        for (byte ch : bytes) {
+            appendable.append((char) ch);
+        }
+        return appendable;
+    }
+
+    @Override
+    int writeValueAscii(byte[] bytes, int offset) {
+        byte[] source = ascii;
+        if (source == null) {
+            return super.writeValueAscii(bytes, offset);
+        }
+        Objects.checkFromIndexSize(offset, source.length, bytes.length);
+        System.arraycopy(source, 0, bytes, offset, source.length);
+        return source.length;
+    }
+
+    @Override
+    int writeValueAscii(ByteBuffer buffer, int offset) {
+        byte[] source = ascii;
+        if (source == null) {
+            return super.writeValueAscii(buffer, offset);
+        }
+        Objects.checkFromIndexSize(offset, source.length, buffer.limit());
+        buffer.put(offset, source);
+        return source.length;
+    }
+
+    /**
+     * Returns true iff {@link OrderableSlsVersion#equals}, without decoding either version if both are lazy and have
+     * the same characters.
+     */
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (other instanceof LazyOrderableSlsVersion && hasSameCharacters((LazyOrderableSlsVersion) other)) {
+            return true;
+        }
+        return super.equals(other);
+    }
+
+    private boolean hasSameCharacters(LazyOrderableSlsVersion other) {
+        int length = length();
+        if (other.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (charAt(i) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash of the numeric components, which has to decode them: {@link #equals} ignores the string, so
+     * versions such as {@code 1.2.3} and {@code 01.2.3} are equal and must hash the same.
+     */
+    @Override
+    public int hashCode() {
+        return components().hashCode;
+    }
+
+    /** The numbers of a version, read from its validated characters, and the hash and sort key of the version. */
+    private static final class Components {
+        private final int major;
+        private final int minor;
+        private final int patch;
+        private final int firstSequence;
+        private final int secondSequence;
+        private final int hashCode;
+        private final long sortKeyMsb;
+        private final long sortKeyLsb;
+
+        /**
+         * Reads the numbers of the given version. They are its first runs of digits, in order: the three version
+         * numbers, then the RC number after {@code -rc} and the distance after the next {@code -}, whichever the type
+         * has. The git hash of snapshots only follows all of them, so it is never read.
+         */
+        private Components(LazyOrderableSlsVersion version) {
+            int end = digitsEnd(version, 0);
+            major = number(version, 0, end);
+            int start = end + 1;
+            end = digitsEnd(version, start);
+            minor = number(version, start, end);
+            start = end + 1;
+            end = digitsEnd(version, start);
+            patch = number(version, start, end);
+            int first = SlsVersionParser.NO_SEQUENCE_NUMBER;
+            int second = SlsVersionParser.NO_SEQUENCE_NUMBER;
+            if (version.type != SlsVersionType.RELEASE) {
+                start = nextDigit(version, end);
+                end = digitsEnd(version, start);
+                first = number(version, start, end);
+            }
+            if (version.type == SlsVersionType.RELEASE_CANDIDATE_SNAPSHOT) {
+                start = nextDigit(version, end);
+                end = digitsEnd(version, start);
+                second = number(version, start, end);
+            }
+            firstSequence = first;
+            secondSequence = second;
+            hashCode = OrderableSlsVersion.hashCode(version.type, major, minor, patch, first, second);
+            sortKeyMsb = CompactVersion.sortKeyMsb(version.type, major, minor, patch, first, second);
+            sortKeyLsb = CompactVersion.sortKeyLsb(version.type, patch, first, second);
+        }
+
+        /** Returns the value of the digits between the given indices, which were validated to fit in an int. */
+        private static int number(LazyOrderableSlsVersion version, int start, int end) {
+            int number = 0;
+            for (int i = start; i < end; i++) {
+                number = number * 10 + (version.charAt(i) - '0');
+            }
+            return number;
+        }
+
+        private static int digitsEnd(LazyOrderableSlsVersion version, int index) {
+            int end = index;
+            while (end < version.length() && isDigit(version.charAt(end))) {
+                end++;
+            }
+            return end;
+        }
+
+        private static int nextDigit(LazyOrderableSlsVersion version, int index) {
+            int next = index;
+            while (!isDigit(version.charAt(next))) {
+                next++;
+            }
+            return next;
+        }
+
+        private static boolean isDigit(char ch) {
+            return ch >= '0' && ch <= '9';
+        }
+    }
+}
@@ -40,18 +40,24 @@ public abstract class NonOrderableSlsVersion extends SlsVersion {
             return Optional.empty();
         }
 
-        MatchResult groups = SlsVersionType.NON_ORDERABLE.getParser().tryParse(value);
-        if (groups == null) {
-            return Optional.empty();
-        }
+        return Optional.ofNullable(SlsVersionParser.parse(value, NonOrderableSlsVersion::construct));
+    }
 
-        return Optional.of(new NonOrderableSlsVersion.Builder()
-                .value(value)
-                .majorVersionNumber(groups.groupAsInt(1))
-                .minorVersionNumber(groups.groupAsInt(2))
-                .patchVersionNumber(groups.groupAsInt(3))
+    static NonOrderableSlsVersion construct(
+            CharSequence value,
+            SlsVersionType _type,
+            int major,
+            int minor,
+            int patch,
+            int _firstSequence,
+            int _secondSequence) {
+        return new NonOrderableSlsVersion.Builder()
+                .value(value.toString())
+                .majorVersionNumber(major)
+                .minorVersionNumber(minor)
+                .patchVersionNumber(patch)
                 .type(SlsVersionType.NON_ORDERABLE)
-                .build());
+                .build();
     }
 
     /**
@@ -59,7 +65,7 @@ public abstract class NonOrderableSlsVersion extends SlsVersion {
      * orderable one.
      */
     public static boolean check(String coordinate) {
-        return safeValueOf(coordinate).isPresent() && !OrderableSlsVersion.check(coordinate);
+        return coordinate != null && SlsVersionParser.classify(coordinate) == SlsVersionType.NON_ORDERABLE;
     }
 
     @Override
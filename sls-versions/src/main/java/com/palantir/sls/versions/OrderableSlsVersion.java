@@ -20,7 +20,12 @@ import static com.palantir.logsafe.Preconditions.checkArgument;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.palantir.logsafe.UnsafeArg;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.util.Optional;
+import java.util.OptionalInt;
+import javax.annotation.Nullable;
 import org.immutables.value.Value;
 
 /**
@@ -31,13 +36,6 @@ import org.immutables.value.Value;
 @ImmutablesStyle
 public abstract class OrderableSlsVersion extends SlsVersion implements Comparable<OrderableSlsVersion> {
 
-    private static final SlsVersionType[] ORDERED_VERSION_TYPES = {
-        SlsVersionType.RELEASE,
-        SlsVersionType.RELEASE_CANDIDATE,
-        SlsVersionType.RELEASE_CANDIDATE_SNAPSHOT,
-        SlsVersionType.RELEASE_SNAPSHOT
-    };
-
     @JsonCreator
     public static OrderableSlsVersion valueOf(String value) {
         Optional<OrderableSlsVersion> optional = safeValueOf(value);
@@ -51,29 +49,105 @@ public abstract class OrderableSlsVersion extends SlsVersion implements Comparab
             return Optional.empty();
         }
 
-        for (SlsVersionType type : ORDERED_VERSION_TYPES) {
-            MatchResult groups = type.getParser().tryParse(value);
-            if (groups != null) {
-                return Optional.of(construct(type, value, groups));
-            }
+        return Optional.ofNullable(SlsVersionParser.parse(value, OrderableSlsVersion::construct));
+    }
+
+    /**
+     * The same as {@link #safeValueOf(String)}, but reads from any {@link CharSequence}. Valid characters are copied
+     * into a compact ASCII array, and no {@link String} is built until {@link #getValue()} or {@link #toString()} is
+     * called; as with {@link #lazyValueOf(String)}, the numeric components are decoded the first time they are read.
+     */
+    public static Optional<OrderableSlsVersion> safeValueOfChars(CharSequence value) {
+        return safeLazyValueOf(value);
+    }
+
+    /**
+     * The same as {@link #safeValueOfChars(CharSequence)}, reading {@code length} chars starting at {@code offset}.
+     */
+    public static Optional<OrderableSlsVersion> safeValueOfChars(char[] chars, int offset, int length) {
+        return safeValueOfChars(CharBuffer.wrap(chars, offset, length));
+    }
+
+    /**
+     * The same as {@link #safeValueOfChars(CharSequence)}, reading {@code length} UTF-8 encoded bytes starting at
+     * {@code offset}.
+     */
+    public static Optional<OrderableSlsVersion> safeValueOfUtf8(byte[] utf8, int offset, int length) {
+        return safeValueOfChars(ByteCharSequence.of(utf8, offset, length));
+    }
+
+    /**
+     * The same as {@link #safeValueOfChars(CharSequence)}, reading the remaining UTF-8 encoded bytes of the buffer
+     * without changing its position.
+     */
+    public static Optional<OrderableSlsVersion> safeValueOfUtf8(ByteBuffer utf8) {
+        return safeValueOfChars(ByteCharSequence.of(utf8));
+    }
+
+    /**
+     * The same as {@link #valueOf(String)}, but returns an implementation which stores its numeric components in
+     * primitive fields and precomputes its hash code, for callers which keep large numbers of versions in memory.
+     * The result is equal to, and compares the same as, the one returned by {@link #valueOf(String)}.
+     */
+    public static OrderableSlsVersion packedValueOf(String value) {
+        Optional<OrderableSlsVersion> optional = safePackedValueOf(value);
+        checkArgument(optional.isPresent(), "Not an orderable version: {value}", UnsafeArg.of("value", value));
+        return optional.get();
+    }
+
+    /** The same as {@link #packedValueOf(String)}, but will return {@link Optional#empty} if the format is invalid. */
+    public static Optional<OrderableSlsVersion> safePackedValueOf(CharSequence value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(SlsVersionParser.parse(value, PackedOrderableSlsVersion::construct));
+    }
+
+    /**
+     * The same as {@link #valueOf(String)}, but returns an implementation which only validates the string up front and
+     * holds nothing but the string and its type, decoding the numeric components the first time they are read. This
+     * suits callers which mostly pass versions through via {@link #getValue()}.
+     */
+    public static OrderableSlsVersion lazyValueOf(String value) {
+        Optional<OrderableSlsVersion> optional = safeLazyValueOf(value);
+        checkArgument(optional.isPresent(), "Not an orderable version: {value}", UnsafeArg.of("value", value));
+        return optional.get();
+    }
+
+    /** The same as {@link #lazyValueOf(String)}, but will return {@link Optional#empty} if the format is invalid. */
+    public static Optional<OrderableSlsVersion> safeLazyValueOf(CharSequence value) {
+        if (value == null) {
+            return Optional.empty();
         }
 
-        return Optional.empty();
+        return Optional.ofNullable(SlsVersionParser.parse(value, LazyOrderableSlsVersion::construct));
     }
 
-    private static OrderableSlsVersion construct(SlsVersionType type, String value, MatchResult groups) {
+    @Nullable
+    static OrderableSlsVersion construct(
+            CharSequence value,
+            SlsVersionType type,
+            int major,
+            int minor,
+            int patch,
+            int firstSequence,
+            int secondSequence) {
+        if (type == SlsVersionType.NON_ORDERABLE) {
+            return null;
+        }
         OrderableSlsVersion.Builder orderableSlsVersion = new Builder()
                 .type(type)
-                .value(value)
-                .majorVersionNumber(groups.groupAsInt(1))
-                .minorVersionNumber(groups.groupAsInt(2))
-                .patchVersionNumber(groups.groupAsInt(3));
+                .value(value.toString())
+                .majorVersionNumber(major)
+                .minorVersionNumber(minor)
+                .patchVersionNumber(patch);
 
-        if (groups.groupCount() >= 4) {
-            orderableSlsVersion.firstSequenceVersionNumber(groups.groupAsInt(4));
+        if (firstSequence != SlsVersionParser.NO_SEQUENCE_NUMBER) {
+            orderableSlsVersion.firstSequenceVersionNumber(firstSequence);
         }
-        if (groups.groupCount() >= 5) {
-            orderableSlsVersion.secondSequenceVersionNumber(groups.groupAsInt(5));
+        if (secondSequence != SlsVersionParser.NO_SEQUENCE_NUMBER) {
+            orderableSlsVersion.secondSequenceVersionNumber(secondSequence);
         }
 
         return orderableSlsVersion.build();
@@ -81,7 +155,133 @@ public abstract class OrderableSlsVersion extends SlsVersion implements Comparab
 
     /** Returns true iff the given coordinate has a version which can be parsed into a valid orderable SLS version. */
     public static boolean check(String coordinate) {
-        return safeValueOf(coordinate).isPresent();
+        if (coordinate == null) {
+            return false;
+        }
+        SlsVersionType type = SlsVersionParser.classify(coordinate);
+        return type != null && type != SlsVersionType.NON_ORDERABLE;
+    }
+
+    /**
+     * The value of {@link #firstSequenceVersionNumber()}, or {@link SlsVersionParser#NO_SEQUENCE_NUMBER} if it is
+     * absent. Implementations which do not store an {@link OptionalInt} override this to avoid creating one.
+     */
+    int firstSequenceNumber() {
+        return firstSequenceVersionNumber().orElse(SlsVersionParser.NO_SEQUENCE_NUMBER);
+    }
+
+    /** The same as {@link #firstSequenceNumber()}, for {@link #secondSequenceVersionNumber()}. */
+    int secondSequenceNumber() {
+        return secondSequenceVersionNumber().orElse(SlsVersionParser.NO_SEQUENCE_NUMBER);
+    }
+
+    /**
+     * The most significant half of a key which orders versions the same way as {@link VersionComparator}, using the
+     * layout of {@link CompactVersion#getMsb()}, or {@link CompactVersion#NO_SORT_KEY} if a component is too large
+     * for it. Computed on first use and kept in transient fields by the Immutables implementation, and computed up
+     * front by the packed and lazy implementations.
+     */
+    @Value.Lazy
+    long sortKeyMsb() {
+        return CompactVersion.sortKeyMsb(this);
+    }
+
+    /** The least significant half of the key described by {@link #sortKeyMsb()}. */
+    @Value.Lazy
+    long sortKeyLsb() {
+        return CompactVersion.sortKeyLsb(this);
+    }
+
+    /**
+     * Returns true iff the other object is an orderable version with the same type and numeric components, regardless
+     * of which implementation either of them uses. Like the rest of the value, the version string is ignored.
+     */
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof OrderableSlsVersion && hasSameComponents((OrderableSlsVersion) other);
+    }
+
+    private boolean hasSameComponents(OrderableSlsVersion other) {
+        return getMajorVersionNumber() == other.getMajorVersionNumber()
+                && getMinorVersionNumber() == other.getMinorVersionNumber()
+                && getPatchVersionNumber() == other.getPatchVersionNumber()
+                && getType() == other.getType()
+                && firstSequenceNumber() == other.firstSequenceNumber()
+                && secondSequenceNumber() == other.secondSequenceNumber();
+    }
+
+    /** Returns a hash of the same components that {@link #equals} compares. */
+    @Override
+    public int hashCode() {
+        return hashCode(
+                getType(),
+                getMajorVersionNumber(),
+                getMinorVersionNumber(),
+                getPatchVersionNumber(),
+                firstSequenceNumber(),
+                secondSequenceNumber());
+    }
+
+    static int hashCode(SlsVersionType type, int major, int minor, int patch, int firstSequence, int secondSequence) {
+        int hash = 5381;
+        hash += (hash << 5) + major;
+        hash += (hash << 5) + minor;
+        hash += (hash << 5) + patch;
+        hash += (hash << 5) + type.ordinal();
+        hash += (hash << 5) + firstSequence;
+        hash += (hash << 5) + secondSequence;
+        return hash;
+    }
+
+    /** Appends {@link #getValue()} to the given builder. */
+    public final StringBuilder appendTo(StringBuilder builder) {
+        return appendValueTo(builder);
+    }
+
+    /** Appends {@link #getValue()} to the given {@link Appendable}. */
+    public final Appendable appendTo(Appendable appendable) throws IOException {
+        return appendValueTo(appendable);
+    }
+
+    /**
+     * Writes {@link #getValue()}, which is always ASCII, as bytes starting at the given offset, and returns the number
+     * of bytes written, without encoding the string into a temporary array.
+     *
+     * @throws IndexOutOfBoundsException if the value does not fit, in which case nothing is written
+     */
+    public final int writeAscii(byte[] bytes, int offset) {
+        return writeValueAscii(bytes, offset);
+    }
+
+    /**
+     * The same as {@link #writeAscii(byte[], int)}, at an absolute offset of the buffer. The buffer's position is
+     * ignored and left unchanged, and the value must fit before its limit.
+     */
+    public final int writeAscii(ByteBuffer buffer, int offset) {
+        return writeValueAscii(buffer, offset);
+    }
+
+    /** Implements {@link #appendTo(StringBuilder)}, for subclasses which can render without {@link #getValue()}. */
+    StringBuilder appendValueTo(StringBuilder builder) {
+        return builder.append(getValue());
+    }
+
+    /** Implements {@link #appendTo(Appendable)}, for subclasses which can render without {@link #getValue()}. */
+    Appendable appendValueTo(Appendable appendable) throws IOException {
+        return appendable.append(getValue());
+    }
+
+    /** Implements {@link #writeAscii(byte[], int)}, for subclasses which can render without {@link #getValue()}. */
+    int writeValueAscii(byte[] bytes, int offset) {
+        return VersionStrings.copyAscii(getValue(), bytes, offset);
+    }
+
+    /** Implements {@link #writeAscii(ByteBuffer, int)}, for subclasses which can render without {@link #getValue()}. */
+    int writeValueAscii(ByteBuffer buffer, int offset) {
+        return VersionStrings.copyAscii(getValue(), buffer, offset);
     }
 
     @Override
@@ -0,0 +1,137 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import java.util.OptionalInt;
+import javax.annotation.Nullable;
+
+/**
+ * An {@link OrderableSlsVersion} which keeps every numeric component in a primitive field. Absent sequence numbers are
+ * stored as {@link SlsVersionParser#NO_SEQUENCE_NUMBER} rather than as {@link OptionalInt} instances, and the hash
+ * code and sort key are computed once up front, so an instance is a single small object besides its value string.
+ *
+ * <p>Instances are equal to, and hash the same as, the Immutables implementation with the same components.
+ */
+final class PackedOrderableSlsVersion extends OrderableSlsVersion {
+    private static final long serialVersionUID = 1L;
+
+    private final String value;
+    private final SlsVersionType type;
+    private final int major;
+    private final int minor;
+    private final int patch;
+    private final int firstSequence;
+    private final int secondSequence;
+    private final int hashCode;
+    private final long sortKeyMsb;
+    private final long sortKeyLsb;
+
+    private PackedOrderableSlsVersion(
+            String value, SlsVersionType type, int major, int minor, int patch, int firstSequence, int secondSequence) {
+        this.value = value;
+        this.type = type;
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+        this.firstSequence = firstSequence;
+        this.secondSequence = secondSequence;
+        this.hashCode = hashCode(type, major, minor, patch, firstSequence, secondSequence);
+        this.sortKeyMsb = CompactVersion.sortKeyMsb(type, major, minor, patch, firstSequence, secondSequence);
+        this.sortKeyLsb = CompactVersion.sortKeyLsb(type, patch, firstSequence, secondSequence);
+    }
+
+    /** A {@link SlsVersionParser.Factory} of packed instances, rejecting non-orderable versions. */
+    @Nullable
+    static OrderableSlsVersion construct(
+            CharSequence value,
+            SlsVersionType type,
+            int major,
+            int minor,
+            int patch,
+            int firstSequence,
+            int secondSequence) {
+        if (type == SlsVersionType.NON_ORDERABLE) {
+            return null;
+        }
+        return new PackedOrderableSlsVersion(
+                value.toString(), type, major, minor, patch, firstSequence, secondSequence);
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public int getMajorVersionNumber() {
+        return major;
+    }
+
+    @Override
+    public int getMinorVersionNumber() {
+        return minor;
+    }
+
+    @Override
+    public int getPatchVersionNumber() {
+        return patch;
+    }
+
+    @Override
+    public OptionalInt firstSequenceVersionNumber() {
+        return firstSequence == SlsVersionParser.NO_SEQUENCE_NUMBER
+                ? OptionalInt.empty()
+                : OptionalInt.of(firstSequence);
+    }
+
+    @Override
+    public OptionalInt secondSequenceVersionNumber() {
+        return secondSequence == SlsVersionParser.NO_SEQUENCE_NUMBER
+                ? OptionalInt.empty()
+                : OptionalInt.of(secondSequence);
+    }
+
+    @Override
+    public SlsVersionType getType() {
+        return type;
+    }
+
+    @Override
+    int firstSequenceNumber() {
+        return firstSequence;
+    }
+
+    @Override
+    int secondSequenceNumber() {
+        return secondSequence;
+    }
+
+    @Override
+    long sortKeyMsb() {
+        return sortKeyMsb;
+    }
+
+    @Override
+    long sortKeyLsb() {
+        return sortKeyLsb;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -18,7 +18,8 @@ package com.palantir.sls.versions;
 
 /**
  * We're using parser combinator-style ideas here, where each parser function {@link Parsers#numberOrX},
- * {@link Parsers#number}, {@link Parsers#literalX} accepts an index into our source string and returns a two values:
+ * {@link Parsers#number}, {@link Parsers#literalX}, {@link Parsers#literal}, {@link Parsers#gitHash} accepts an index
+ * into our source string (any {@link CharSequence}) and returns a two values:
  *
  * - an updated index into the string representing how many characters were parsed
  * - a value that was actually parsed out of the string (if the parser was able to parse the string), otherwise a
@@ -36,7 +37,7 @@ final class Parsers {
     private Parsers() {}
 
     // "x" is signified by the magic negative number -1, which is distinct from Integer.MIN_VALUE which is a failure
-    static long numberOrX(String string, int startIndex) {
+    static long numberOrX(CharSequence string, int startIndex) {
         long xResult = literalX(string, startIndex);
         if (isOk(xResult)) {
             return ok(getIndex(xResult), MAGIC_X_NUMBER);
@@ -50,56 +51,71 @@ final class Parsers {
         return fail(startIndex);
     }
 
-    static long number(String string, int startIndex) {
+    static long number(CharSequence string, int startIndex) {
         int next = startIndex;
         int len = string.length();
+        long value = 0;
         while (next < len) {
-            int codepoint = string.codePointAt(next);
-            if (Character.isDigit(codepoint)) {
-                next += 1;
-            } else {
+            char ch = string.charAt(next);
+            if (ch < '0' || ch > '9') {
                 break;
             }
+            value = value * 10 + (ch - '0');
+            if (value > Integer.MAX_VALUE) {
+                // i.e. we overflowed the int
+                return fail(startIndex);
+            }
+            next += 1;
         }
         if (next == startIndex) {
             return fail(startIndex);
-        } else if (next == startIndex + 1) {
-            return ok(next, Character.digit(string.codePointAt(startIndex), 10));
-        } else {
-            try {
-                int result = Integer.parseUnsignedInt(string, startIndex, next, 10);
-                if (result < 0) {
-                    // i.e. we overflowed the int
-                    return fail(startIndex);
-                }
-                return ok(next, result);
-            } catch (NumberFormatException e) {
-                if (e.getMessage() != null && e.getMessage().endsWith("exceeds range of unsigned int.")) {
-                    return fail(startIndex);
-                } else {
-                    throw e;
-                }
-            }
         }
+        return ok(next, (int) value);
     }
 
     // 0 signifies success
-    private static long literalX(String string, int startIndex) {
-        if (startIndex < string.length() && string.codePointAt(startIndex) == 'x') {
+    private static long literalX(CharSequence string, int startIndex) {
+        if (startIndex < string.length() && string.charAt(startIndex) == 'x') {
             return ok(startIndex + 1, 0);
         } else {
             return fail(startIndex);
         }
     }
 
-    static long literalDot(String string, int startIndex) {
-        if (startIndex < string.length() && string.codePointAt(startIndex) == '.') {
+    static long literalDot(CharSequence string, int startIndex) {
+        return literal(string, startIndex, '.');
+    }
+
+    // 0 signifies success
+    static long literal(CharSequence string, int startIndex, char expected) {
+        if (startIndex < string.length() && string.charAt(startIndex) == expected) {
             return ok(startIndex + 1, 0);
         } else {
             return fail(startIndex);
         }
     }
 
+    /** Parses a git hash of the form {@code g[a-f0-9]+}, where 0 signifies success. */
+    static long gitHash(CharSequence string, int startIndex) {
+        long state = literal(string, startIndex, 'g');
+        if (failed(state)) {
+            return state;
+        }
+        int next = getIndex(state);
+        int len = string.length();
+        while (next < len && isHexDigit(string.charAt(next))) {
+            next += 1;
+        }
+        if (next == getIndex(state)) {
+            return fail(startIndex);
+        }
+        return ok(next, 0);
+    }
+
+    private static boolean isHexDigit(char ch) {
+        return (ch >= '0' && ch <= '9') || (ch >= 'a' && ch <= 'f');
+    }
+
     /**
      * We are bit-packing two integers into a single long.  The 'index' occupies half of the bits and the 'result'
      * occupies the other half.
@@ -21,34 +21,40 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import com.palantir.logsafe.UnsafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 import java.io.Serializable;
-import java.util.Optional;
 import java.util.OptionalInt;
+import javax.annotation.Nullable;
 import org.immutables.value.Value;
 
 public abstract class SlsVersion implements Serializable {
 
     @JsonCreator
     public static SlsVersion valueOf(String value) {
-        Optional<OrderableSlsVersion> optionalOrderableVersion = OrderableSlsVersion.safeValueOf(value);
-        if (optionalOrderableVersion.isPresent()) {
-            return optionalOrderableVersion.get();
+        SlsVersion version = value == null ? null : SlsVersionParser.parse(value, SlsVersion::construct);
+        if (version == null) {
+            throw new SafeIllegalArgumentException(
+                    "Value is neither an orderable nor a non-orderable version", UnsafeArg.of("value", value));
         }
-        Optional<NonOrderableSlsVersion> optionalNonOrderableVersion = NonOrderableSlsVersion.safeValueOf(value);
-        if (optionalNonOrderableVersion.isPresent()) {
-            return optionalNonOrderableVersion.get();
+        return version;
+    }
+
+    @Nullable
+    static SlsVersion construct(
+            CharSequence value,
+            SlsVersionType type,
+            int major,
+            int minor,
+            int patch,
+            int firstSequence,
+            int secondSequence) {
+        if (type == SlsVersionType.NON_ORDERABLE) {
+            return NonOrderableSlsVersion.construct(value, type, major, minor, patch, firstSequence, secondSequence);
         }
-        throw new SafeIllegalArgumentException(
-                "Value is neither an orderable nor a non-orderable version", UnsafeArg.of("value", value));
+        return OrderableSlsVersion.construct(value, type, major, minor, patch, firstSequence, secondSequence);
     }
 
     /** Returns true iff the given coordinate has a version which can be parsed into a valid SLS string. */
     public static boolean check(String coordinate) {
-        try {
-            valueOf(coordinate);
-            return true;
-        } catch (SafeIllegalArgumentException e) {
-            return false;
-        }
+        return coordinate != null && SlsVersionParser.classify(coordinate) != null;
     }
 
     /** The full version string. */
@@ -0,0 +1,225 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * An opt-in, size-bounded and thread-safe interning layer in front of the {@code valueOf} methods of
+ * {@link OrderableSlsVersion}, {@link SlsVersion} and {@link SlsVersionMatcher}. Repeated lookups of the same string
+ * return the same canonical instance for as long as it stays cached, and strings which fail to parse are cached as
+ * well so that they are not re-parsed either.
+ *
+ * <p>Lookups of cached strings are lock-free: they are a single {@link ConcurrentHashMap#get} plus, at most, one write
+ * recording that the entry was used. Only cache misses take a lock, to insert the new entry and to evict another one
+ * if the cache is full, as decided by the configured {@link EvictionPolicy}.
+ */
+public final class SlsVersionCache<T> {
+
+    public enum EvictionPolicy {
+        /**
+         * Approximate least-recently-used eviction, by sampling. Rather than maintaining a global access order, which
+         * would make every read contend on shared state, each entry is stamped with the number of misses seen when it
+         * was last used, and the oldest of a random sample of eight entries is evicted. The victim is therefore not
+         * always the least recently used entry: entries outside the sample are never considered, and entries used
+         * between the same two misses share a stamp, so ties among them are broken arbitrarily.
+         */
+        LRU,
+        /**
+         * Evicts the first entry which has not been used since the clock hand last passed over it, giving every entry
+         * that was used a second chance.
+         */
+        CLOCK
+    }
+
+    private static final int LRU_SAMPLE_SIZE = 8;
+    private static final long CLOCK_UNREFERENCED = 0;
+    private static final long CLOCK_REFERENCED = 1;
+
+    private final Function<String, Optional<T>> safeParser;
+    private final Function<String, T> parser;
+    private final EvictionPolicy policy;
+    private final ConcurrentMap<String, Entry<T>> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicLong epoch = new AtomicLong();
+
+    // guarded by slots
+    private final Entry<T>[] slots;
+    private int size;
+    private int hand;
+
+    @SuppressWarnings("unchecked")
+    private SlsVersionCache(
+            Function<String, Optional<T>> safeParser,
+            Function<String, T> parser,
+            int maximumSize,
+            EvictionPolicy policy) {
+        Preconditions.checkArgument(
+                maximumSize > 0, "maximumSize must be positive", SafeArg.of("maximumSize", maximumSize));
+        this.safeParser = safeParser;
+        this.parser = parser;
+        this.policy = Preconditions.checkNotNull(policy, "policy cannot be null");
+        this.entries = new ConcurrentHashMap<>(maximumSize);
+        this.slots = (Entry<T>[]) new Entry<?>[maximumSize];
+    }
+
+    /** Creates a cache of at most {@code maximumSize} results of {@link OrderableSlsVersion#valueOf}. */
+    public static SlsVersionCache<OrderableSlsVersion> forOrderableVersions(int maximumSize, EvictionPolicy policy) {
+        return new SlsVersionCache<>(
+                OrderableSlsVersion::safeValueOf, OrderableSlsVersion::valueOf, maximumSize, policy);
+    }
+
+    /** Creates a cache of at most {@code maximumSize} results of {@link SlsVersion#valueOf}. */
+    public static SlsVersionCache<SlsVersion> forVersions(int maximumSize, EvictionPolicy policy) {
+        return new SlsVersionCache<>(
+                value -> value == null
+                        ? Optional.empty()
+                        : Optional.ofNullable(SlsVersionParser.parse(value, SlsVersion::construct)),
+                SlsVersion::valueOf,
+                maximumSize,
+                policy);
+    }
+
+    /** Creates a cache of at most {@code maximumSize} results of {@link SlsVersionMatcher#valueOf}. */
+    public static SlsVersionCache<SlsVersionMatcher> forMatchers(int maximumSize, EvictionPolicy policy) {
+        return new SlsVersionCache<>(SlsVersionMatcher::safeValueOf, SlsVersionMatcher::valueOf, maximumSize, policy);
+    }
+
+    /**
+     * Returns the canonical parsed instance for the given string, throwing the same exception as the uncached
+     * {@code valueOf} method if it is invalid.
+     */
+    public T valueOf(String value) {
+        Optional<T> result = safeValueOf(value);
+        // invalid strings are cached as empty, so re-run the uncached parser to raise its usual exception
+        return result.isPresent() ? result.get() : parser.apply(value);
+    }
+
+    /** The same as {@link #valueOf(String)}, but returns {@link Optional#empty} if the format is invalid. */
+    public Optional<T> safeValueOf(String value) {
+        if (value == null) {
+            return safeParser.apply(value);
+        }
+
+        Entry<T> entry = entries.get(value);
+        if (entry != null) {
+            hits.increment();
+            touch(entry);
+            return entry.value;
+        }
+
+        misses.increment();
+        return insert(value, safeParser.apply(value)).value;
+    }
+
+    /** The number of lookups, of both valid and invalid strings, which were answered from the cache. */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /** The number of lookups which had to parse the string. */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /** The number of strings currently cached. */
+    public int getSize() {
+        return entries.size();
+    }
+
+    private void touch(Entry<T> entry) {
+        long stamp = policy == EvictionPolicy.CLOCK ? CLOCK_REFERENCED : epoch.get();
+        // only write when the stamp changes, so that hot entries are not written to on every read
+        if (entry.lastUsed != stamp) {
+            entry.lastUsed = stamp;
+        }
+    }
+
+    private Entry<T> insert(String value, Optional<T> result) {
+        synchronized (slots) {
+            Entry<T> existing = entries.get(value);
+            if (existing != null) {
+                // another thread parsed the same string first, so return its instance instead
+                return existing;
+            }
+            long stamp = epoch.getAndIncrement();
+            Entry<T> entry =
+                    new Entry<>(value, result, policy == EvictionPolicy.CLOCK ? CLOCK_UNREFERENCED : stamp);
+            int slot = size < slots.length ? size++ : evict();
+            slots[slot] = entry;
+            entries.put(value, entry);
+            return entry;
+        }
+    }
+
+    /** Removes an entry from the cache, returning the slot it occupied. */
+    private int evict() {
+        int victim = policy == EvictionPolicy.CLOCK ? clockVictim() : lruVictim();
+        entries.remove(slots[victim].key);
+        return victim;
+    }
+
+    private int clockVictim() {
+        // terminates within two sweeps, as the first sweep clears every reference bit
+        while (true) {
+            int slot = hand;
+            hand = (hand + 1) % slots.length;
+            if (slots[slot].lastUsed == CLOCK_UNREFERENCED) {
+                return slot;
+            }
+            slots[slot].lastUsed = CLOCK_UNREFERENCED;
+        }
+    }
+
+    private int lruVictim() {
+        if (slots.length <= LRU_SAMPLE_SIZE) {
+            int victim = 0;
+            for (int slot = 1; slot < slots.length; slot++) {
+                victim = slots[slot].lastUsed < slots[victim].lastUsed ? slot : victim;
+            }
+            return victim;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int victim = random.nextInt(slots.length);
+        for (int i = 1; i < LRU_SAMPLE_SIZE; i++) {
+            int slot = random.nextInt(slots.length);
+            victim = slots[slot].lastUsed < slots[victim].lastUsed ? slot : victim;
+        }
+        return victim;
+    }
+
+    private static final class Entry<T> {
+        private final String key;
+        private final Optional<T> value;
+        private volatile long lastUsed;
+
+        private Entry(String key, Optional<T> value, long lastUsed) {
+            this.key = key;
+            this.value = value;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
@@ -25,6 +25,8 @@ import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.UnsafeArg;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.util.Comparator;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -70,10 +72,41 @@ public abstract class SlsVersionMatcher {
 
     /** The same as {@link #valueOf(String)}, but returns {@link Optional#empty} if the format is invalid. */
     public static Optional<SlsVersionMatcher> safeValueOf(String value) {
+        return safeValueOfChars(value);
+    }
+
+    /**
+     * The same as {@link #safeValueOf(String)}, but reads from any {@link CharSequence}. The characters are only
+     * copied into a {@link String} once they are known to form a valid matcher.
+     */
+    public static Optional<SlsVersionMatcher> safeValueOfChars(CharSequence value) {
         checkNotNull(value, "value cannot be null");
         return SlsVersionMatcherParser.safeValueOf(value);
     }
 
+    /**
+     * The same as {@link #safeValueOfChars(CharSequence)}, reading {@code length} chars starting at {@code offset}.
+     */
+    public static Optional<SlsVersionMatcher> safeValueOfChars(char[] chars, int offset, int length) {
+        return safeValueOfChars(CharBuffer.wrap(chars, offset, length));
+    }
+
+    /**
+     * The same as {@link #safeValueOfChars(CharSequence)}, reading {@code length} UTF-8 encoded bytes starting at
+     * {@code offset}.
+     */
+    public static Optional<SlsVersionMatcher> safeValueOfUtf8(byte[] utf8, int offset, int length) {
+        return safeValueOfChars(ByteCharSequence.of(utf8, offset, length));
+    }
+
+    /**
+     * The same as {@link #safeValueOfChars(CharSequence)}, reading the remaining UTF-8 encoded bytes of the buffer
+     * without changing its position.
+     */
+    public static Optional<SlsVersionMatcher> safeValueOfUtf8(ByteBuffer utf8) {
+        return safeValueOfChars(ByteCharSequence.of(utf8));
+    }
+
     static Optional<SlsVersionMatcher> maybeCreate(
             String value, OptionalInt major, OptionalInt minor, OptionalInt patch) {
         SlsVersionMatcher maybeMatcher = ImmutableSlsVersionMatcher.of(value, major, minor, patch);
@@ -126,34 +159,139 @@ public abstract class SlsVersionMatcher {
      * {@code 1.3.2} and {@code 1.2.x} is greater than {@code 1.1.1}.
      */
     public int compare(OrderableSlsVersion version) {
-        if (concreteSlsVersion().isPresent()) {
-            return VersionComparator.INSTANCE.compare(concreteSlsVersion().get(), version);
-        }
+        return compiled().compare(
+                ExtendedCompactVersion.encodeHigh(version),
+                ExtendedCompactVersion.encodeMiddle(version),
+                ExtendedCompactVersion.encodeLow(version));
+    }
+
+    /** The same as {@link #matches(OrderableSlsVersion)}, without decoding the compact version. */
+    public boolean matches(CompactVersion version) {
+        return compiled().matches(version.getMsb(), version.getLsb());
+    }
 
-        if (getMajorVersionNumber().isPresent()) {
-            int comparison = Integer.compare(getMajorVersionNumber().getAsInt(), version.getMajorVersionNumber());
-            if (comparison != 0) {
-                return comparison;
+    /** The same as {@link #compare(OrderableSlsVersion)}, without decoding the compact version. */
+    public int compare(CompactVersion version) {
+        CompiledVersionMatcher compiled = compiled();
+        return compiled.isCompact()
+                ? compiled.compare(version.getMsb(), version.getLsb())
+                : compare(version.toSlsVersion());
+    }
+
+    /**
+     * The same as {@link #matches(OrderableSlsVersion)}, reading the version straight from the given string without
+     * parsing it first. The string is read only up to the first component which differs from this matcher, and
+     * anything other than a {@link SlsVersionType#RELEASE release version}, including invalid versions, does not
+     * match.
+     */
+    public boolean matches(CharSequence version) {
+        checkNotNull(version, "version cannot be null");
+        int index = 0;
+        for (int component = 0; component < 3; component++) {
+            long state = component == 0 ? Parsers.ok(0, 0) : Parsers.literalDot(version, index);
+            if (Parsers.isOk(state)) {
+                state = Parsers.number(version, Parsers.getIndex(state));
             }
-        }
-        if (getMinorVersionNumber().isPresent()) {
-            int comparison = Integer.compare(getMinorVersionNumber().getAsInt(), version.getMinorVersionNumber());
-            if (comparison != 0) {
-                return comparison;
+            if (Parsers.failed(state) || !matchesComponent(getComponent(component), Parsers.getResult(state))) {
+                return false;
             }
+            index = Parsers.getIndex(state);
         }
-        if (getPatchVersionNumber().isPresent()) {
-            int comparison = Integer.compare(getPatchVersionNumber().getAsInt(), version.getPatchVersionNumber());
-            if (comparison != 0) {
-                return comparison;
+        // a release has nothing after its patch version
+        return index == version.length();
+    }
+
+    /**
+     * The same as {@link #compare(OrderableSlsVersion)}, reading the version straight from the given string without
+     * parsing it into an {@link OrderableSlsVersion}. The string is validated, and then compared only up to the first
+     * component which differs from this matcher.
+     *
+     * @throws com.palantir.logsafe.exceptions.SafeIllegalArgumentException if the string is not an orderable version
+     */
+    public int compare(CharSequence version) {
+        SlsVersionType type = SlsVersionParser.classifyOrderable(version);
+        int index = 0;
+        for (int component = 0; component < 3; component++) {
+            long state = Parsers.number(version, index);
+            OptionalInt expected = getComponent(component);
+            if (!matchesComponent(expected, Parsers.getResult(state))) {
+                return Integer.compare(expected.getAsInt(), Parsers.getResult(state));
             }
+            // skip the dot after the component
+            index = Parsers.getIndex(state) + 1;
+        }
+        // a matcher which specifies the patch version specifies every component, and is compared as that release
+        return getPatchVersionNumber().isPresent()
+                ? Long.compare(
+                        CompactVersion.encodePriority2(SlsVersionType.RELEASE), CompactVersion.encodePriority2(type))
+                : 0;
+    }
+
+    private OptionalInt getComponent(int component) {
+        switch (component) {
+            case 0:
+                return getMajorVersionNumber();
+            case 1:
+                return getMinorVersionNumber();
+            default:
+                return getPatchVersionNumber();
         }
-        return 0;
+    }
+
+    private static boolean matchesComponent(OptionalInt expected, int actual) {
+        return expected.isEmpty() || expected.getAsInt() == actual;
+    }
+
+    /**
+     * This matcher's components as masks over the bits of compact versions, computed when the matcher is created so
+     * that comparisons neither allocate nor wait for lazy initialization.
+     */
+    @Value.Derived
+    @Value.Auxiliary
+    CompiledVersionMatcher compiled() {
+        return CompiledVersionMatcher.compile(
+                getMajorVersionNumber(), getMinorVersionNumber(), getPatchVersionNumber());
+    }
+
+    /**
+     * Returns the least {@link CompactVersion} which this matcher {@link #matches(OrderableSlsVersion) matches}, or
+     * {@link Optional#empty} if a component is too large for any compact version to match. Every release version from
+     * this one to {@link #highestCompactMatch()} matches, and no other version does, so the matches in a sorted
+     * collection of compact versions can be found with two binary searches and a check of each result's type.
+     */
+    public Optional<CompactVersion> lowestCompactMatch() {
+        return compactMatch(0);
+    }
+
+    /**
+     * Returns the greatest {@link CompactVersion} which this matcher {@link #matches(OrderableSlsVersion) matches}, or
+     * {@link Optional#empty} if a component is too large for any compact version to match.
+     *
+     * @see #lowestCompactMatch()
+     */
+    public Optional<CompactVersion> highestCompactMatch() {
+        return compactMatch(CompactVersion.MAX_COMPONENT);
+    }
+
+    /** Returns the release version with this matcher's components, and the given value in place of each {@code x}. */
+    private Optional<CompactVersion> compactMatch(int wildcard) {
+        return Optional.ofNullable(CompactVersion.encodeIfFits(
+                SlsVersionType.RELEASE,
+                getMajorVersionNumber().orElse(wildcard),
+                getMinorVersionNumber().orElse(wildcard),
+                getPatchVersionNumber().orElse(wildcard),
+                0,
+                0));
     }
 
     /**
      * Returns an OrderableSlsVersion if this VersionMatcher is a concrete version (that is to say, it contains no x's).
+     *
+     * @deprecated no longer used: {@link #compare(OrderableSlsVersion)} matches concrete versions through the same
+     *     compiled masks as any other matcher. Kept only for API compatibility, and to be removed in the next major
+     *     version.
      */
+    @Deprecated
     @Value.Lazy
     protected Optional<OrderableSlsVersion> concreteSlsVersion() {
         return OrderableSlsVersion.safeValueOf(getValue());
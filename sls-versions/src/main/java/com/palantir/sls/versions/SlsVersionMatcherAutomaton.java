@@ -0,0 +1,387 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import com.palantir.logsafe.Preconditions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * A set of {@link SlsVersionMatcher}s compiled into a single deterministic automaton over the characters of a token,
+ * which finds every matcher that {@link SlsVersionMatcher#matches(CharSequence) matches} the token in one pass over
+ * it, however many matchers there are. The automaton reads chars or UTF-8 encoded bytes one at a time, and is driven
+ * either by {@link #run} over a whole token, or by {@link #next} for callers which find token boundaries themselves.
+ *
+ * <p>Each state of the automaton stands for the set of matchers which could still match, together with how far each
+ * of them got through the current component: the digits of its value read so far, or for an {@code x} how many
+ * digits were read and whether they still fit in an int. The states are built ahead of time by the subset
+ * construction, so reading a character is a single array lookup, and neither reading a token nor enumerating its
+ * matches allocates.
+ *
+ * <p>Like {@link SlsVersionMatcher#matches(CharSequence)}, only {@link SlsVersionType#RELEASE release versions} are
+ * accepted, leading zeros are ignored, and components which overflow an int are rejected.
+ */
+public final class SlsVersionMatcherAutomaton {
+    /** The state before any character of a token has been read. */
+    public static final int INITIAL_STATE = 0;
+
+    /** The state after reading a character which no matcher can accept; it never leads to another state. */
+    public static final int REJECTED = -1;
+
+    /** Symbols are the digits, followed by the dot. */
+    private static final int DOT = 10;
+
+    private static final int SYMBOLS = 11;
+
+    private final List<SlsVersionMatcher> matchers;
+
+    /** The state after each state and symbol, at {@code state * SYMBOLS + symbol}. */
+    private final int[] transitions;
+
+    /** The positions of the matchers accepting a token which ends in each state lie from this state to the next. */
+    private final int[] matchOffsets;
+
+    private final int[] matches;
+
+    private SlsVersionMatcherAutomaton(
+            List<SlsVersionMatcher> matchers, int[] transitions, int[] matchOffsets, int[] matches) {
+        this.matchers = matchers;
+        this.transitions = transitions;
+        this.matchOffsets = matchOffsets;
+        this.matches = matches;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** Returns the number of matchers, whose positions run from zero in the order they were added. */
+    public int size() {
+        return matchers.size();
+    }
+
+    /** Returns the matcher at the given position. */
+    public SlsVersionMatcher get(int index) {
+        return matchers.get(index);
+    }
+
+    /** Returns the state after reading the given character in the given state. */
+    public int next(int state, char ch) {
+        int symbol = symbol(ch);
+        return state == REJECTED || symbol < 0 ? REJECTED : transitions[state * SYMBOLS + symbol];
+    }
+
+    /** Returns the state after reading the given UTF-8 encoded byte in the given state. */
+    public int next(int state, byte utf8) {
+        return next(state, (char) (utf8 & 0xFF));
+    }
+
+    private static int symbol(char ch) {
+        if (ch >= '0' && ch <= '9') {
+            return ch - '0';
+        }
+        return ch == '.' ? DOT : -1;
+    }
+
+    /** Returns the state after reading the whole token from the {@link #INITIAL_STATE}. */
+    public int run(CharSequence token) {
+        int state = INITIAL_STATE;
+        for (int index = 0; index < token.length() && state != REJECTED; index++) {
+            state = next(state, token.charAt(index));
+        }
+        return state;
+    }
+
+    /** Returns the state after reading {@code length} UTF-8 encoded bytes starting at {@code offset}. */
+    public int run(byte[] utf8, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, utf8.length);
+        int state = INITIAL_STATE;
+        for (int index = offset; index < offset + length && state != REJECTED; index++) {
+            state = next(state, utf8[index]);
+        }
+        return state;
+    }
+
+    /** Returns the number of matchers which match a token ending in the given state. */
+    public int getMatchCount(int state) {
+        return state == REJECTED ? 0 : matchOffsets[state + 1] - matchOffsets[state];
+    }
+
+    /**
+     * Returns the position of the {@code index}th matcher which matches a token ending in the given state, where the
+     * positions are in ascending order.
+     */
+    public int getMatch(int state, int index) {
+        Objects.checkIndex(index, getMatchCount(state));
+        return matches[matchOffsets[state] + index];
+    }
+
+    /** Returns true iff any matcher matches the given token. */
+    public boolean matchesAny(CharSequence token) {
+        return getMatchCount(run(token)) > 0;
+    }
+
+    /** Passes the position of every matcher which matches the given token to the consumer, in ascending order. */
+    public void forEachMatch(CharSequence token, IntConsumer consumer) {
+        forEachMatch(run(token), consumer);
+    }
+
+    /** The same as {@link #forEachMatch(CharSequence, IntConsumer)}, reading UTF-8 encoded bytes. */
+    public void forEachMatch(byte[] utf8, int offset, int length, IntConsumer consumer) {
+        forEachMatch(run(utf8, offset, length), consumer);
+    }
+
+    private void forEachMatch(int state, IntConsumer consumer) {
+        if (state != REJECTED) {
+            for (int index = matchOffsets[state]; index < matchOffsets[state + 1]; index++) {
+                consumer.accept(matches[index]);
+            }
+        }
+    }
+
+    /** Collects matchers and compiles them into a {@link SlsVersionMatcherAutomaton}. */
+    public static final class Builder {
+        private final List<SlsVersionMatcher> matchers = new ArrayList<>();
+
+        private Builder() {}
+
+        public Builder add(SlsVersionMatcher matcher) {
+            matchers.add(Preconditions.checkNotNull(matcher, "matcher"));
+            return this;
+        }
+
+        public Builder addAll(Collection<? extends SlsVersionMatcher> values) {
+            values.forEach(this::add);
+            return this;
+        }
+
+        /** Builds the states reachable from the initial state, numbering them in the order they are found. */
+        public SlsVersionMatcherAutomaton build() {
+            String[][] digits = new String[matchers.size()][];
+            for (int matcher = 0; matcher < matchers.size(); matcher++) {
+                digits[matcher] = digits(matchers.get(matcher));
+            }
+
+            long[] initial = new long[matchers.size()];
+            for (int matcher = 0; matcher < initial.length; matcher++) {
+                initial[matcher] = Item.of(matcher, 0, Item.EMPTY);
+            }
+            List<long[]> states = new ArrayList<>();
+            Map<StateKey, Integer> ids = new HashMap<>();
+            states.add(initial);
+            ids.put(new StateKey(initial), INITIAL_STATE);
+
+            int[] transitions = new int[SYMBOLS];
+            int[] matchOffsets = new int[2];
+            int[] matches = new int[0];
+            for (int state = 0; state < states.size(); state++) {
+                long[] items = states.get(state);
+                transitions = ensureCapacity(transitions, (state + 1) * SYMBOLS);
+                for (int symbol = 0; symbol < SYMBOLS; symbol++) {
+                    long[] next = Item.step(items, symbol, digits);
+                    transitions[state * SYMBOLS + symbol] = next.length == 0
+                            ? REJECTED
+                            : ids.computeIfAbsent(new StateKey(next), _key -> {
+                                states.add(next);
+                                return states.size() - 1;
+                            });
+                }
+                int[] accepted = Item.accepted(items, digits);
+                matchOffsets = ensureCapacity(matchOffsets, state + 2);
+                matchOffsets[state + 1] = matchOffsets[state] + accepted.length;
+                matches = ensureCapacity(matches, matchOffsets[state + 1]);
+                System.arraycopy(accepted, 0, matches, matchOffsets[state], accepted.length);
+            }
+            return new SlsVersionMatcherAutomaton(
+                    Collections.unmodifiableList(new ArrayList<>(matchers)),
+                    Arrays.copyOf(transitions, states.size() * SYMBOLS),
+                    Arrays.copyOf(matchOffsets, states.size() + 1),
+                    Arrays.copyOf(matches, matchOffsets[states.size()]));
+        }
+
+        /** Returns the digits of each component of the matcher without leading zeros, or null for an {@code x}. */
+        private static String[] digits(SlsVersionMatcher matcher) {
+            return new String[] {
+                digits(matcher.getMajorVersionNumber()),
+                digits(matcher.getMinorVersionNumber()),
+                digits(matcher.getPatchVersionNumber())
+            };
+        }
+
+        @Nullable
+        private static String digits(OptionalInt component) {
+            if (component.isEmpty()) {
+                return null;
+            }
+            // zero is written as nothing but leading zeros
+            return component.getAsInt() == 0 ? "" : Integer.toString(component.getAsInt());
+        }
+
+        private static int[] ensureCapacity(int[] array, int capacity) {
+            return array.length >= capacity ? array : Arrays.copyOf(array, Math.max(capacity, 2 * array.length));
+        }
+    }
+
+    /**
+     * The progress of a single matcher through a token, packed into a long as the matcher's position, the index of
+     * the component being read and the state within that component. A state of the automaton is the set of items of
+     * the matchers which could still match, sorted by position.
+     */
+    private static final class Item {
+        /** No digit of the component has been read yet. */
+        static final int EMPTY = 0;
+
+        /** Only zeros have been read, which is the same as having read no digits of a non-zero value. */
+        static final int ZEROS = 1;
+
+        /** The item can no longer match. */
+        static final int DEAD = -1;
+
+        private static final String MAX_INT = Integer.toString(Integer.MAX_VALUE);
+        private static final int LESS = 0;
+        private static final int EQUAL = 1;
+        private static final int GREATER = 2;
+        private static final int ORDERS = 3;
+
+        private Item() {}
+
+        static long of(int matcher, int component, int state) {
+            return ((long) matcher << 32) | ((long) component << 16) | state;
+        }
+
+        static int matcher(long item) {
+            return (int) (item >>> 32);
+        }
+
+        static int component(long item) {
+            return (int) (item >>> 16) & 0xFFFF;
+        }
+
+        static int state(long item) {
+            return (int) item & 0xFFFF;
+        }
+
+        /** Returns the items which survive reading the symbol, in the same order. */
+        static long[] step(long[] items, int symbol, String[][] digits) {
+            long[] next = new long[items.length];
+            int count = 0;
+            for (long item : items) {
+                long stepped = step(item, symbol, digits[matcher(item)]);
+                if (stepped >= 0) {
+                    next[count++] = stepped;
+                }
+            }
+            return Arrays.copyOf(next, count);
+        }
+
+        /** Returns the item after reading the symbol, or a negative number if it can no longer match. */
+        private static long step(long item, int symbol, String[] digits) {
+            int component = component(item);
+            String value = digits[component];
+            if (symbol == DOT) {
+                // a dot may only end the major or minor version
+                return component < 2 && isComplete(state(item), value) ? of(matcher(item), component + 1, EMPTY) : DEAD;
+            }
+            int state = value == null ? stepWildcard(state(item), symbol) : stepValue(state(item), symbol, value);
+            return state == DEAD ? DEAD : of(matcher(item), component, state);
+        }
+
+        /**
+         * Reads a digit of a specified value, where the state after its {@code i}th significant digit is
+         * {@code i + 1}, so that {@link #ZEROS} is the state before the first.
+         */
+        private static int stepValue(int state, int digit, String value) {
+            int position = Math.max(state - 1, 0);
+            if (position == 0 && digit == 0) {
+                return ZEROS;
+            }
+            return position < value.length() && value.charAt(position) - '0' == digit ? position + 2 : DEAD;
+        }
+
+        /**
+         * Reads a digit of an {@code x}, which matches any int. After the first significant digit, the state records
+         * how many significant digits have been read, and whether they are less than, equal to or greater than as many
+         * leading digits of {@link Integer#MAX_VALUE}, which decides whether a number of the same length fits.
+         */
+        private static int stepWildcard(int state, int digit) {
+            if (state == EMPTY || state == ZEROS) {
+                return digit == 0 ? ZEROS : wildcard(1, compareToMaxDigit(digit, 0));
+            }
+            int length = (state - 2) / ORDERS + 1;
+            int order = (state - 2) % ORDERS;
+            if (length == MAX_INT.length()) {
+                return DEAD;
+            }
+            return wildcard(length + 1, order == EQUAL ? compareToMaxDigit(digit, length) : order);
+        }
+
+        private static int wildcard(int length, int order) {
+            return length == MAX_INT.length() && order == GREATER ? DEAD : 2 + (length - 1) * ORDERS + order;
+        }
+
+        private static int compareToMaxDigit(int digit, int position) {
+            int maxDigit = MAX_INT.charAt(position) - '0';
+            return digit == maxDigit ? EQUAL : (digit < maxDigit ? LESS : GREATER);
+        }
+
+        /** Returns true iff the digits read so far make up the whole component. */
+        private static boolean isComplete(int state, @Nullable String value) {
+            if (value == null) {
+                return state != EMPTY;
+            }
+            return value.isEmpty() ? state == ZEROS : state == value.length() + 1;
+        }
+
+        /** Returns the positions of the matchers which have read a complete patch version. */
+        static int[] accepted(long[] items, String[][] digits) {
+            return Arrays.stream(items)
+                    .filter(item -> component(item) == 2 && isComplete(state(item), digits[matcher(item)][2]))
+                    .mapToInt(Item::matcher)
+                    .toArray();
+        }
+    }
+
+    /** A set of items used as a key while building the automaton. */
+    private static final class StateKey {
+        private final long[] items;
+        private final int hashCode;
+
+        StateKey(long[] items) {
+            this.items = items;
+            this.hashCode = Arrays.hashCode(items);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object other) {
+            return other instanceof StateKey && Arrays.equals(items, ((StateKey) other).items);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
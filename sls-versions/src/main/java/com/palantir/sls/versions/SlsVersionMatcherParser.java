@@ -24,7 +24,7 @@ import java.util.OptionalInt;
  */
 final class SlsVersionMatcherParser {
 
-    public static Optional<SlsVersionMatcher> safeValueOf(String string) {
+    public static Optional<SlsVersionMatcher> safeValueOf(CharSequence string) {
         OptionalInt major = OptionalInt.empty();
         OptionalInt minor = OptionalInt.empty();
         OptionalInt patch = OptionalInt.empty();
@@ -72,7 +72,7 @@ final class SlsVersionMatcherParser {
             return Optional.empty(); // reject due to trailing stuff
         }
 
-        return SlsVersionMatcher.maybeCreate(string, major, minor, patch);
+        return SlsVersionMatcher.maybeCreate(string.toString(), major, minor, patch);
     }
 
     private SlsVersionMatcherParser() {}
@@ -0,0 +1,264 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import com.palantir.logsafe.UnsafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import javax.annotation.Nullable;
+
+/**
+ * A hand-rolled, single-pass parser which classifies a string (or any other {@link CharSequence}) as one of the
+ * {@link SlsVersionType}s.
+ *
+ * <p>Rather than trying the regex of each type in turn, the base version is read once and the type is then worked out
+ * from the suffix: nothing for {@link SlsVersionType#RELEASE}, {@code -rcN} for
+ * {@link SlsVersionType#RELEASE_CANDIDATE}, {@code -N-g<hex>} for {@link SlsVersionType#RELEASE_SNAPSHOT} and
+ * {@code -rcN-N-g<hex>} for {@link SlsVersionType#RELEASE_CANDIDATE_SNAPSHOT}. If the suffix is none of these, matching
+ * carries on from wherever the orderable suffix stopped against {@code (-[a-z0-9-]+)?(\.dirty)?}, which makes the
+ * string {@link SlsVersionType#NON_ORDERABLE}. Every character the orderable grammar accepts is also in
+ * {@code [a-z0-9-]}, so no part of the string needs to be read twice.
+ *
+ * <p>Parsed components are handed straight to a {@link Factory}, so callers can build whatever representation they
+ * need without any intermediate match object. The input is only ever read through {@link CharSequence#charAt}, so
+ * nothing is allocated unless the factory itself allocates.
+ */
+final class SlsVersionParser {
+
+    /** Passed to the {@link Factory} in place of a sequence number that the parsed type does not have. */
+    static final int NO_SEQUENCE_NUMBER = -1;
+
+    static final String DIRTY = ".dirty";
+
+    private SlsVersionParser() {}
+
+    interface Factory<T> {
+        /**
+         * Creates the result for a successfully parsed version. For {@link SlsVersionType#RELEASE_SNAPSHOT} the first
+         * sequence number is the distance from the release, in line with
+         * {@link OrderableSlsVersion#firstSequenceVersionNumber()}. {@link SlsVersionType#NON_ORDERABLE} versions never
+         * have sequence numbers.
+         */
+        @Nullable
+        T create(
+                CharSequence value,
+                SlsVersionType type,
+                int major,
+                int minor,
+                int patch,
+                int firstSequence,
+                int secondSequence);
+    }
+
+    /**
+     * Returns the result of the given {@link Factory} if the provided string is a valid SLS version of any type, or
+     * null otherwise.
+     */
+    @Nullable
+    static <T> T parse(CharSequence string, Factory<T> factory) {
+        long state = Parsers.number(string, 0);
+        if (Parsers.failed(state)) {
+            return null;
+        }
+        int major = Parsers.getResult(state);
+
+        state = Parsers.literalDot(string, Parsers.getIndex(state));
+        if (Parsers.failed(state)) {
+            return null;
+        }
+
+        state = Parsers.number(string, Parsers.getIndex(state));
+        if (Parsers.failed(state)) {
+            return null;
+        }
+        int minor = Parsers.getResult(state);
+
+        state = Parsers.literalDot(string, Parsers.getIndex(state));
+        if (Parsers.failed(state)) {
+            return null;
+        }
+
+        state = Parsers.number(string, Parsers.getIndex(state));
+        if (Parsers.failed(state)) {
+            return null;
+        }
+        int patch = Parsers.getResult(state);
+
+        return parseSuffix(string, Parsers.getIndex(state), major, minor, patch, factory);
+    }
+
+    /** Returns the type of the provided string, or null if it is not a valid SLS version. */
+    @Nullable
+    static SlsVersionType classify(CharSequence string) {
+        return parse(string, SlsVersionParser::type);
+    }
+
+    /**
+     * Returns the type of the provided string, which must be an orderable version.
+     *
+     * @throws SafeIllegalArgumentException if the string is null or not an orderable version
+     */
+    static SlsVersionType classifyOrderable(@Nullable CharSequence string) {
+        SlsVersionType type = string == null ? null : classify(string);
+        if (type == null || type == SlsVersionType.NON_ORDERABLE) {
+            throw new SafeIllegalArgumentException("Not an orderable version", UnsafeArg.of("value", string));
+        }
+        return type;
+    }
+
+    private static SlsVersionType type(
+            CharSequence _value,
+            SlsVersionType type,
+            int _major,
+            int _minor,
+            int _patch,
+            int _firstSequence,
+            int _secondSequence) {
+        return type;
+    }
+
+    @Nullable
+    private static <T> T parseSuffix(
+            CharSequence string, int startIndex, int major, int minor, int patch, Factory<T> factory) {
+        int len = string.length();
+        if (startIndex == len) {
+            return factory.create(
+                    string, SlsVersionType.RELEASE, major, minor, patch, NO_SEQUENCE_NUMBER, NO_SEQUENCE_NUMBER);
+        }
+
+        long rc = releaseCandidate(string, startIndex);
+        if (Parsers.isOk(rc)) {
+            if (Parsers.getIndex(rc) == len) {
+                return factory.create(
+                        string,
+                        SlsVersionType.RELEASE_CANDIDATE,
+                        major,
+                        minor,
+                        patch,
+                        Parsers.getResult(rc),
+                        NO_SEQUENCE_NUMBER);
+            }
+            long snapshot = snapshot(string, Parsers.getIndex(rc));
+            if (Parsers.failed(snapshot)) {
+                return nonOrderable(string, startIndex, Parsers.getIndex(snapshot), major, minor, patch, factory);
+            }
+            return factory.create(
+                    string,
+                    SlsVersionType.RELEASE_CANDIDATE_SNAPSHOT,
+                    major,
+                    minor,
+                    patch,
+                    Parsers.getResult(rc),
+                    Parsers.getResult(snapshot));
+        }
+
+        long snapshot = snapshot(string, startIndex);
+        if (Parsers.failed(snapshot)) {
+            return nonOrderable(string, startIndex, Parsers.getIndex(snapshot), major, minor, patch, factory);
+        }
+        return factory.create(
+                string,
+                SlsVersionType.RELEASE_SNAPSHOT,
+                major,
+                minor,
+                patch,
+                Parsers.getResult(snapshot),
+                NO_SEQUENCE_NUMBER);
+    }
+
+    /** Parses {@code -rcN}, returning N. */
+    static long releaseCandidate(CharSequence string, int startIndex) {
+        long state = Parsers.literal(string, startIndex, '-');
+        if (Parsers.isOk(state)) {
+            state = Parsers.literal(string, Parsers.getIndex(state), 'r');
+        }
+        if (Parsers.isOk(state)) {
+            state = Parsers.literal(string, Parsers.getIndex(state), 'c');
+        }
+        if (Parsers.isOk(state)) {
+            state = Parsers.number(string, Parsers.getIndex(state));
+        }
+        return Parsers.isOk(state) ? state : Parsers.fail(startIndex);
+    }
+
+    /**
+     * Parses {@code -N-g<hex>} up to the end of the string, returning N. On failure, the index is how far the input
+     * was consumed, all of which is within {@code [a-z0-9-]}.
+     */
+    static long snapshot(CharSequence string, int startIndex) {
+        long state = Parsers.literal(string, startIndex, '-');
+        if (Parsers.failed(state)) {
+            return state;
+        }
+
+        long number = Parsers.number(string, Parsers.getIndex(state));
+        if (Parsers.failed(number)) {
+            return number;
+        }
+
+        state = Parsers.literal(string, Parsers.getIndex(number), '-');
+        if (Parsers.isOk(state)) {
+            state = Parsers.gitHash(string, Parsers.getIndex(state));
+        }
+        if (Parsers.failed(state)) {
+            return state;
+        }
+        if (Parsers.getIndex(state) != string.length()) {
+            return Parsers.fail(Parsers.getIndex(state));
+        }
+        return Parsers.ok(Parsers.getIndex(state), Parsers.getResult(number));
+    }
+
+    /**
+     * Matches the remainder of {@code (-[a-z0-9-]+)?(\.dirty)?}, where the suffix starts at {@code startIndex} and
+     * everything before {@code resumeIndex} is already known to be within {@code [a-z0-9-]}.
+     */
+    @Nullable
+    private static <T> T nonOrderable(
+            CharSequence string, int startIndex, int resumeIndex, int major, int minor, int patch, Factory<T> factory) {
+        int next = resumeIndex;
+        int len = string.length();
+        if (string.charAt(startIndex) == '-') {
+            while (next < len && isSuffixChar(string.charAt(next))) {
+                next += 1;
+            }
+            if (next == startIndex + 1) {
+                return null;
+            }
+        }
+        if (next != len && !isDirty(string, next)) {
+            return null;
+        }
+        return factory.create(
+                string, SlsVersionType.NON_ORDERABLE, major, minor, patch, NO_SEQUENCE_NUMBER, NO_SEQUENCE_NUMBER);
+    }
+
+    private static boolean isDirty(CharSequence string, int startIndex) {
+        if (string.length() - startIndex != DIRTY.length()) {
+            return false;
+        }
+        for (int i = 0; i < DIRTY.length(); i++) {
+            if (string.charAt(startIndex + i) != DIRTY.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isSuffixChar(char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= '0' && ch <= '9') || ch == '-';
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import static com.palantir.logsafe.Preconditions.checkNotNull;
+
+import java.nio.ByteBuffer;
+import java.util.stream.IntStream;
+
+/**
+ * Finds the SLS versions of every {@link SlsVersionType type} written in arbitrary text, such as log files, reading
+ * either chars or UTF-8 encoded bytes. Each version found is passed to a {@link TokenConsumer} along with its position,
+ * its type and its {@link CompactVersion} key, without allocating.
+ *
+ * <p>A version is a run of text matching the grammar of the {@link SlsVersionType} patterns, extended as far as the
+ * grammar allows. It may follow any character other than a digit or a dot, as in {@code v1.2.3} or
+ * {@code my-service-1.2.3}, but must not be followed by an ASCII letter, digit or underscore, nor by a dot or dash
+ * followed by one, so that neither {@code 10.0.0.1} nor {@code 1.2.3-SNAPSHOT} contain a version, while the sentence
+ * {@code Deployed 1.2.3.} does. Any other character, including every non-ASCII one, ends a version, so that text
+ * finds the same versions whether it is scanned as chars or as UTF-8 bytes.
+ *
+ * <p>Every version contains a dot directly after its major version, so the scanner only looks for dots, skipping
+ * everything else, and reads the digits before each dot to find where a version would start. Since each version is
+ * found from its first dot alone, text can be split into chunks scanned independently: {@code parallelScan} scans
+ * chunks of 2<sup>20</sup> chars or bytes in parallel, using the common {@link java.util.concurrent.ForkJoinPool},
+ * and finds the same versions as {@code scan}.
+ */
+public final class SlsVersionScanner {
+    /** Passed as both words of the key of versions which have no {@link CompactVersion}. */
+    public static final long NO_KEY = CompactVersion.NO_SORT_KEY;
+
+    static final int PARALLEL_CHUNK_SIZE = 1 << 20;
+
+    private SlsVersionScanner() {}
+
+    /** Receives the versions found by a {@link SlsVersionScanner}. */
+    @FunctionalInterface
+    public interface TokenConsumer {
+        /**
+         * Accepts the version of the given type which is {@code length} chars or bytes long and starts at
+         * {@code offset}. The key is the {@link CompactVersion#getMsb() msb} and {@link CompactVersion#getLsb() lsb}
+         * of the version's compact form, or {@link #NO_KEY} if it is {@link SlsVersionType#NON_ORDERABLE} or does not
+         * fit in a {@link CompactVersion}.
+         */
+        void accept(int offset, int length, SlsVersionType type, long keyMsb, long keyLsb);
+    }
+
+    /** Passes every version in the text to the consumer, in order, where offsets are indexes into the text. */
+    public static void scan(CharSequence text, TokenConsumer consumer) {
+        checkNotNull(text, "text");
+        new ChunkScanner(text, 0, consumer).scan(0, text.length());
+    }
+
+    /**
+     * Passes every version in {@code length} UTF-8 encoded bytes starting at {@code offset} to the consumer, in
+     * order, where offsets are indexes into the array.
+     */
+    public static void scan(byte[] utf8, int offset, int length, TokenConsumer consumer) {
+        new ChunkScanner(ByteCharSequence.of(utf8, offset, length), offset, consumer).scan(0, length);
+    }
+
+    /**
+     * Passes every version in the remaining UTF-8 encoded bytes of the buffer, which may be memory-mapped, to the
+     * consumer, in order, where offsets are indexes into the buffer. The buffer's position is left unchanged.
+     */
+    public static void scan(ByteBuffer utf8, TokenConsumer consumer) {
+        new ChunkScanner(ByteCharSequence.of(utf8), utf8.position(), consumer).scan(0, utf8.remaining());
+    }
+
+    /**
+     * The same as {@link #scan(CharSequence, TokenConsumer)}, but scans chunks of the text in parallel, so the
+     * consumer must be thread-safe. The versions of each chunk are passed in order, but chunks in no particular
+     * order. The text must not change during the scan.
+     */
+    public static void parallelScan(CharSequence text, TokenConsumer consumer) {
+        checkNotNull(text, "text");
+        parallelScan(text, 0, consumer);
+    }
+
+    /** The same as {@link #scan(byte[], int, int, TokenConsumer)}, scanning chunks in parallel. */
+    public static void parallelScan(byte[] utf8, int offset, int length, TokenConsumer consumer) {
+        parallelScan(ByteCharSequence.of(utf8, offset, length), offset, consumer);
+    }
+
+    /**
+     * The same as {@link #scan(ByteBuffer, TokenConsumer)}, scanning chunks in parallel. The buffer is only read at
+     * absolute indexes, so it can be shared between threads.
+     */
+    public static void parallelScan(ByteBuffer utf8, TokenConsumer consumer) {
+        parallelScan(ByteCharSequence.of(utf8), utf8.position(), consumer);
+    }
+
+    private static void parallelScan(CharSequence text, int base, TokenConsumer consumer) {
+        checkNotNull(consumer, "consumer");
+        int length = text.length();
+        int chunks = (int) (((long) length + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE);
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int from = chunk * PARALLEL_CHUNK_SIZE;
+            new ChunkScanner(text, base, consumer).scan(from, from + Math.min(PARALLEL_CHUNK_SIZE, length - from));
+        });
+    }
+
+    /**
+     * Scans a chunk of text for versions whose first dot lies within it, reading the text beyond the chunk as far as
+     * each version extends. It parses each version through a window over the text and is itself the parser's
+     * factory, so that a single instance serves every version of the chunk.
+     */
+    private static final class ChunkScanner implements SlsVersionParser.Factory<SlsVersionType> {
+        private final CharSequence text;
+        private final int base;
+        private final TokenConsumer consumer;
+        private final Window window;
+        private long keyMsb;
+        private long keyLsb;
+
+        ChunkScanner(CharSequence text, int base, TokenConsumer consumer) {
+            this.text = text;
+            this.base = base;
+            this.consumer = checkNotNull(consumer, "consumer");
+            this.window = new Window(text);
+        }
+
+        void scan(int from, int to) {
+            int index = from;
+            while (index < to) {
+                int end = text.charAt(index) == '.' ? versionEnding(index) : -1;
+                index = Math.max(end, index + 1);
+            }
+        }
+
+        /**
+         * Reports the version whose first dot is at the given index, if there is one, and returns its end, or returns
+         * {@code -1}.
+         */
+        private int versionEnding(int dot) {
+            int start = dot;
+            while (start > 0 && isDigit(text.charAt(start - 1))) {
+                start--;
+            }
+            if (start == dot || (start > 0 && text.charAt(start - 1) == '.')) {
+                return -1;
+            }
+            int end = extent(start);
+            if (end < 0 || !isBoundary(end)) {
+                return -1;
+            }
+            SlsVersionType type = SlsVersionParser.parse(window.of(start, end), this);
+            if (type == null) {
+                return -1;
+            }
+            consumer.accept(base + start, end - start, type, keyMsb, keyLsb);
+            return end;
+        }
+
+        /**
+         * Returns the end of the longest run from the given index matching {@code N.N.N(-[a-z0-9-]+)?(\.dirty)?},
+         * where each {@code N} is any number of digits, or {@code -1} if there is none.
+         */
+        private int extent(int start) {
+            int index = digitsEnd(start);
+            for (int component = 1; component < 3 && index >= 0; component++) {
+                index = index < text.length() && text.charAt(index) == '.' ? digitsEnd(index + 1) : -1;
+            }
+            return index < 0 ? -1 : suffixEnd(index);
+        }
+
+        /** Returns the end of the digits starting at the given index, or {@code -1} if there are none. */
+        private int digitsEnd(int start) {
+            int index = start;
+            while (index < text.length() && isDigit(text.charAt(index))) {
+                index++;
+            }
+            return index == start ? -1 : index;
+        }
+
+        private int suffixEnd(int start) {
+            int index = start;
+            if (index + 1 < text.length()
+                    && text.charAt(index) == '-'
+                    && SlsVersionParser.isSuffixChar(text.charAt(index + 1))) {
+                index += 2;
+                while (index < text.length() && SlsVersionParser.isSuffixChar(text.charAt(index))) {
+                    index++;
+                }
+            }
+            return startsWithDirty(index) ? index + SlsVersionParser.DIRTY.length() : index;
+        }
+
+        private boolean startsWithDirty(int index) {
+            if (text.length() - index < SlsVersionParser.DIRTY.length()) {
+                return false;
+            }
+            for (int i = 0; i < SlsVersionParser.DIRTY.length(); i++) {
+                if (text.charAt(index + i) != SlsVersionParser.DIRTY.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Returns true iff a version may end at the given index, as described in {@link SlsVersionScanner}. */
+        private boolean isBoundary(int end) {
+            if (end == text.length()) {
+                return true;
+            }
+            char next = text.charAt(end);
+            if (next == '.' || next == '-') {
+                return end + 1 == text.length() || !isWordChar(text.charAt(end + 1));
+            }
+            return !isWordChar(next);
+        }
+
+        private static boolean isDigit(char ch) {
+            return ch >= '0' && ch <= '9';
+        }
+
+        /**
+         * Returns true iff the char is an ASCII letter, digit or underscore. Bytes are read as their unsigned value, so
+         * any wider definition would treat the bytes of a UTF-8 encoded char differently from the char itself.
+         */
+        private static boolean isWordChar(char ch) {
+            return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || isDigit(ch) || ch == '_';
+        }
+
+        /** Records the key of the parsed version, and returns its type. */
+        @Override
+        public SlsVersionType create(
+                CharSequence _value,
+                SlsVersionType type,
+                int major,
+                int minor,
+                int patch,
+                int firstSequence,
+                int secondSequence) {
+            int rcNumber = CompactVersion.rcNumber(type, firstSequence);
+            int distanceFromVersion = CompactVersion.distanceFromVersion(type, firstSequence, secondSequence);
+            if (type == SlsVersionType.NON_ORDERABLE
+                    || !CompactVersion.fits20b(major, minor, patch, rcNumber, distanceFromVersion)) {
+                keyMsb = NO_KEY;
+                keyLsb = NO_KEY;
+            } else {
+                keyMsb = CompactVersion.encodeMsb(major, minor, patch);
+                keyLsb = CompactVersion.encodeLsb(type, patch, rcNumber, distanceFromVersion);
+            }
+            return type;
+        }
+    }
+
+    /** A reusable view of part of the text, through which versions are parsed without copying them. */
+    private static final class Window implements CharSequence {
+        private final CharSequence text;
+        private int start;
+        private int length;
+
+        Window(CharSequence text) {
+            this.text = text;
+        }
+
+        Window of(int from, int to) {
+            this.start = from;
+            this.length = to - from;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return text.charAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return text.subSequence(start + from, start + to);
+        }
+
+        @Override
+        public String toString() {
+            return text.subSequence(start, start + length).toString();
+        }
+    }
+}
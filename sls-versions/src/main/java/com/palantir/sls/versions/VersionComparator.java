@@ -19,8 +19,8 @@ package com.palantir.sls.versions;
 import static com.palantir.logsafe.Preconditions.checkArgument;
 
 import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 import java.util.Comparator;
-import java.util.OptionalInt;
 
 /** Compares {@link OrderableSlsVersion}s by "newness", i.e., "1.4.0" is greater/newer/later than "1.2.1", etc.. */
 public enum VersionComparator implements Comparator<OrderableSlsVersion> {
@@ -28,6 +28,16 @@ public enum VersionComparator implements Comparator<OrderableSlsVersion> {
 
     @Override
     public int compare(OrderableSlsVersion left, OrderableSlsVersion right) {
+        long leftKey = left.sortKeyMsb();
+        long rightKey = right.sortKeyMsb();
+        if (leftKey != CompactVersion.NO_SORT_KEY && rightKey != CompactVersion.NO_SORT_KEY) {
+            // both versions fit the CompactVersion layout, whose order matches the rules below
+            if (leftKey != rightKey) {
+                return leftKey < rightKey ? -1 : 1;
+            }
+            return Long.compare(left.sortKeyLsb(), right.sortKeyLsb());
+        }
+
         if (left.getValue().equals(right.getValue())) {
             return 0;
         }
@@ -61,6 +71,69 @@ public enum VersionComparator implements Comparator<OrderableSlsVersion> {
         return compareSuffix(left, right);
     }
 
+    /**
+     * Compares two orderable version strings in the same order as {@link #compare}, without parsing them into
+     * {@link OrderableSlsVersion}s or allocating. Both strings are validated first, and then read side by side,
+     * component by component, up to the first one which differs.
+     *
+     * @throws SafeIllegalArgumentException if either string is not an orderable version
+     */
+    public static int compareStrings(CharSequence left, CharSequence right) {
+        SlsVersionType leftType = SlsVersionParser.classifyOrderable(left);
+        SlsVersionType rightType = SlsVersionParser.classifyOrderable(right);
+
+        // major, minor and patch, each but the last followed by a dot
+        int leftIndex = 0;
+        int rightIndex = 0;
+        for (int component = 0; component < 3; component++) {
+            long leftNumber = Parsers.number(left, leftIndex);
+            long rightNumber = Parsers.number(right, rightIndex);
+            int comparison = Integer.compare(Parsers.getResult(leftNumber), Parsers.getResult(rightNumber));
+            if (comparison != 0) {
+                return comparison;
+            }
+            leftIndex = Parsers.getIndex(leftNumber) + 1;
+            rightIndex = Parsers.getIndex(rightNumber) + 1;
+        }
+        return compareSuffixStrings(left, leftIndex - 1, leftType, right, rightIndex - 1, rightType);
+    }
+
+    /** Compares the suffixes in the order of their {@link ExtendedCompactVersion} keys: type, rc, then snapshot. */
+    private static int compareSuffixStrings(
+            CharSequence left,
+            int leftIndex,
+            SlsVersionType leftType,
+            CharSequence right,
+            int rightIndex,
+            SlsVersionType rightType) {
+        int comparison = Long.compare(
+                CompactVersion.encodePriority2(leftType), CompactVersion.encodePriority2(rightType));
+        if (comparison != 0 || leftType == SlsVersionType.RELEASE) {
+            return comparison;
+        }
+
+        // both are release snapshots, or both are release candidates of either kind
+        int leftSnapshotIndex = leftIndex;
+        int rightSnapshotIndex = rightIndex;
+        if (leftType.isReleaseCandidate()) {
+            long leftRc = SlsVersionParser.releaseCandidate(left, leftIndex);
+            long rightRc = SlsVersionParser.releaseCandidate(right, rightIndex);
+            comparison = Integer.compare(Parsers.getResult(leftRc), Parsers.getResult(rightRc));
+            if (comparison != 0 || leftType != rightType) {
+                // snapshots of a release candidate are greater than the release candidate itself
+                return comparison != 0 ? comparison : Boolean.compare(leftType.isSnapshot(), rightType.isSnapshot());
+            }
+            if (!leftType.isSnapshot()) {
+                return 0;
+            }
+            leftSnapshotIndex = Parsers.getIndex(leftRc);
+            rightSnapshotIndex = Parsers.getIndex(rightRc);
+        }
+        return Integer.compare(
+                Parsers.getResult(SlsVersionParser.snapshot(left, leftSnapshotIndex)),
+                Parsers.getResult(SlsVersionParser.snapshot(right, rightSnapshotIndex)));
+    }
+
     private int compareMainVersion(OrderableSlsVersion left, OrderableSlsVersion right) {
         if (left.getMajorVersionNumber() != right.getMajorVersionNumber()) {
             return left.getMajorVersionNumber() > right.getMajorVersionNumber() ? 1 : -1;
@@ -86,25 +159,23 @@ public enum VersionComparator implements Comparator<OrderableSlsVersion> {
         }
 
         // RC number is the same, compare snapshot versions.
-        // Substitute -1 if not present because snapshots are greater than non-snapshots.
-        OptionalInt leftInt = left.secondSequenceVersionNumber();
-        OptionalInt rightInt = right.secondSequenceVersionNumber();
-        return Integer.compare(leftInt.orElse(-1), rightInt.orElse(-1));
+        // Absent numbers are -1, which sorts first because snapshots are greater than non-snapshots.
+        return Integer.compare(left.secondSequenceNumber(), right.secondSequenceNumber());
     }
 
     private int compareFirstSequenceVersions(OrderableSlsVersion left, OrderableSlsVersion right) {
-        OptionalInt leftInt = left.firstSequenceVersionNumber();
-        OptionalInt rightInt = right.firstSequenceVersionNumber();
+        int leftInt = left.firstSequenceNumber();
+        int rightInt = right.firstSequenceNumber();
 
         checkArgument(
-                leftInt.isPresent(),
+                leftInt != SlsVersionParser.NO_SEQUENCE_NUMBER,
                 "Expected to find a first sequence number for version",
                 SafeArg.of("version", left.getValue()));
         checkArgument(
-                rightInt.isPresent(),
+                rightInt != SlsVersionParser.NO_SEQUENCE_NUMBER,
                 "Expected to find a first sequence number for version",
                 SafeArg.of("version", right.getValue()));
 
-        return Integer.compare(leftInt.getAsInt(), rightInt.getAsInt());
+        return Integer.compare(leftInt, rightInt);
     }
 }
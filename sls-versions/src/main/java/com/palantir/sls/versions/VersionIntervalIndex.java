@@ -0,0 +1,401 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import com.palantir.logsafe.Preconditions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable index of rules, each of which is a {@link VersionRange} or an {@link SlsVersionMatcher} paired with a
+ * value, which finds every rule matching a version in time logarithmic in the number of rules plus linear in the
+ * number of matches. A range rule matches the versions it {@link VersionRange#contains contains}, and a matcher rule
+ * the versions it {@link SlsVersionMatcher#matches matches}, which are always release versions.
+ *
+ * <p>Every rule covers an interval of versions: the matcher {@code 1.2.x}, for example, covers the release versions
+ * from {@code 1.2.0} up to but excluding {@code 1.3.0}. The bounds of all intervals are sorted and replaced by their
+ * ranks, and the intervals are stored in a centered interval tree over those ranks, flattened into arrays. The node
+ * centered on each rank holds the intervals which contain it but not the center of any ancestor, sorted once by lower
+ * and once by upper bound. A query finds the rank of the version with one binary search and descends the tree,
+ * reading the intervals of each node only up to the first one which does not match. Matchers are kept in a tree of
+ * their own, which is skipped for versions other than releases.
+ *
+ * <p>{@link Builder#build()} computes and sorts the bounds, places the intervals in the tree and sorts each node in
+ * parallel, using the common {@link java.util.concurrent.ForkJoinPool}.
+ */
+public final class VersionIntervalIndex<T> {
+    /** Each bound is a cut of {@link VersionRangeSet}, three words long. */
+    private static final int WORDS = 3;
+
+    private final List<T> values;
+    private final Tree ranges;
+    private final Tree matchers;
+
+    private VersionIntervalIndex(List<T> values, Tree ranges, Tree matchers) {
+        this.values = values;
+        this.ranges = ranges;
+        this.matchers = matchers;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /** Returns the number of rules, whose positions run from zero in the order they were added. */
+    public int size() {
+        return values.size();
+    }
+
+    /** Returns the value of the rule at the given position. */
+    public T get(int index) {
+        return values.get(index);
+    }
+
+    /** Passes the position of every rule matching the given version to the consumer, in no particular order. */
+    public void forEachMatch(OrderableSlsVersion version, IntConsumer consumer) {
+        forEachMatch(
+                version.getType(),
+                ExtendedCompactVersion.encodeHigh(version),
+                ExtendedCompactVersion.encodeMiddle(version),
+                ExtendedCompactVersion.encodeLow(version),
+                consumer);
+    }
+
+    /** Passes the position of every rule matching the given version to the consumer, in no particular order. */
+    public void forEachMatch(CompactVersion version, IntConsumer consumer) {
+        ExtendedCompactVersion key = version.toExtended();
+        forEachMatch(key.type(), key.getHigh(), key.getMiddle(), key.getLow(), consumer);
+    }
+
+    private void forEachMatch(SlsVersionType type, long high, long middle, long low, IntConsumer consumer) {
+        // a version lies above the cut just below it, whose lowest bit is clear, and below the cut just above it
+        long cut = low << 1;
+        ranges.forEachContaining(high, middle, cut, consumer);
+        if (type == SlsVersionType.RELEASE) {
+            matchers.forEachContaining(high, middle, cut, consumer);
+        }
+    }
+
+    /** Returns the values of all rules matching the given version, in no particular order. */
+    public List<T> getMatches(OrderableSlsVersion version) {
+        List<T> matches = new ArrayList<>();
+        forEachMatch(version, index -> matches.add(values.get(index)));
+        return matches;
+    }
+
+    /** Returns the values of all rules matching the given version, in no particular order. */
+    public List<T> getMatches(CompactVersion version) {
+        List<T> matches = new ArrayList<>();
+        forEachMatch(version, index -> matches.add(values.get(index)));
+        return matches;
+    }
+
+    /** Returns the cut just below the least, or just above the greatest, release version matched by the matcher. */
+    private static long[] matcherCut(SlsVersionMatcher matcher, boolean upper) {
+        OptionalInt major = matcher.getMajorVersionNumber();
+        OptionalInt minor = matcher.getMinorVersionNumber();
+        OptionalInt patch = matcher.getPatchVersionNumber();
+        int next = upper ? 1 : 0;
+        if (patch.isPresent()) {
+            long high = ExtendedCompactVersion.encodeHigh(major.getAsInt(), minor.getAsInt());
+            long middle = ExtendedCompactVersion.encodeMiddle(SlsVersionType.RELEASE, patch.getAsInt(), 0);
+            long low = ExtendedCompactVersion.encodeLow(SlsVersionType.RELEASE, 0);
+            return new long[] {high, middle, (low << 1) | next};
+        }
+        // every release with the given major, or major and minor, lies between the least and the greatest key with
+        // the same high word, and the next high word is at most ABOVE_ALL
+        if (minor.isPresent()) {
+            return new long[] {ExtendedCompactVersion.encodeHigh(major.getAsInt(), minor.getAsInt()) + next, 0, 0};
+        }
+        if (major.isPresent()) {
+            return new long[] {ExtendedCompactVersion.encodeHigh((long) major.getAsInt() + next, 0), 0, 0};
+        }
+        return upper ? VersionRangeSet.ABOVE_ALL : VersionRangeSet.BELOW_ALL;
+    }
+
+    /** Collects rules and builds them into a {@link VersionIntervalIndex}. */
+    public static final class Builder<T> {
+        private final List<T> values = new ArrayList<>();
+        private final List<VersionRange> ranges = new ArrayList<>();
+        private final List<Integer> rangePositions = new ArrayList<>();
+        private final List<SlsVersionMatcher> matchers = new ArrayList<>();
+        private final List<Integer> matcherPositions = new ArrayList<>();
+
+        private Builder() {}
+
+        /** Adds a rule matching the versions the range contains. */
+        public Builder<T> add(VersionRange range, T value) {
+            Preconditions.checkNotNull(range, "range");
+            rangePositions.add(values.size());
+            ranges.add(range);
+            values.add(value);
+            return this;
+        }
+
+        /** Adds a rule matching the versions the matcher matches. */
+        public Builder<T> add(SlsVersionMatcher matcher, T value) {
+            Preconditions.checkNotNull(matcher, "matcher");
+            matcherPositions.add(values.size());
+            matchers.add(matcher);
+            values.add(value);
+            return this;
+        }
+
+        public VersionIntervalIndex<T> build() {
+            return new VersionIntervalIndex<>(
+                    Collections.unmodifiableList(new ArrayList<>(values)),
+                    Tree.build(
+                            rangePositions,
+                            index -> VersionRangeSet.lowerCut(ranges.get(index)),
+                            index -> VersionRangeSet.upperCut(ranges.get(index))),
+                    Tree.build(
+                            matcherPositions,
+                            index -> matcherCut(matchers.get(index), false),
+                            index -> matcherCut(matchers.get(index), true)));
+        }
+    }
+
+    /**
+     * A centered interval tree over the ranks of the distinct bounds. The rank of a version is the number of bounds
+     * which lie below it, so an interval contains the version iff the rank lies between the rank just above its lower
+     * bound and the rank of its upper bound, both inclusive. The tree is that of a binary search over the ranks: its
+     * root is centered on the middle rank, and the children of each node on the middle ranks of either half.
+     */
+    private static final class Tree {
+        /** The distinct bounds in ascending order. */
+        private final long[] bounds;
+
+        /** The intervals held by the node centered on each rank lie at the positions from this rank to the next. */
+        private final int[] offsets;
+
+        private final int[] lowerRanks;
+        private final int[] lowerPositions;
+        private final int[] upperRanks;
+        private final int[] upperPositions;
+
+        private Tree(
+                long[] bounds,
+                int[] offsets,
+                int[] lowerRanks,
+                int[] lowerPositions,
+                int[] upperRanks,
+                int[] upperPositions) {
+            this.bounds = bounds;
+            this.offsets = offsets;
+            this.lowerRanks = lowerRanks;
+            this.lowerPositions = lowerPositions;
+            this.upperRanks = upperRanks;
+            this.upperPositions = upperPositions;
+        }
+
+        static Tree build(List<Integer> positions, IntFunction<long[]> lowerCut, IntFunction<long[]> upperCut) {
+            int count = positions.size();
+            // each endpoint is a cut followed by twice the interval's index, plus one for its upper bound
+            long[][] endpoints = new long[2 * count][];
+            IntStream.range(0, count).parallel().forEach(index -> {
+                endpoints[2 * index] = endpoint(lowerCut.apply(index), 2L * index);
+                endpoints[2 * index + 1] = endpoint(upperCut.apply(index), 2L * index + 1);
+            });
+            Arrays.parallelSort(endpoints, (left, right) -> compareBounds(left, 0, right, 0));
+
+            long[] bounds = new long[endpoints.length * WORDS];
+            int[] lowers = new int[count];
+            int[] uppers = new int[count];
+            int maxRank = rankEndpoints(endpoints, bounds, lowers, uppers);
+            int[] nodes = new int[count];
+            IntStream.range(0, count)
+                    .parallel()
+                    .forEach(index -> nodes[index] = node(lowers[index], uppers[index], maxRank));
+            int[] offsets = new int[maxRank + 2];
+            for (int node : nodes) {
+                if (node >= 0) {
+                    offsets[node + 1]++;
+                }
+            }
+            for (int node = 0; node <= maxRank; node++) {
+                offsets[node + 1] += offsets[node];
+            }
+            int[] byNode = groupByNode(nodes, offsets);
+
+            Tree tree = new Tree(
+                    Arrays.copyOf(bounds, maxRank * WORDS),
+                    offsets,
+                    new int[byNode.length],
+                    new int[byNode.length],
+                    new int[byNode.length],
+                    new int[byNode.length]);
+            IntStream.rangeClosed(0, maxRank)
+                    .parallel()
+                    .filter(node -> offsets[node] < offsets[node + 1])
+                    .forEach(node -> tree.sortNode(node, byNode, lowers, uppers, positions));
+            return tree;
+        }
+
+        /**
+         * Copies the distinct cuts of the sorted endpoints into the bounds, records the rank just above each lower
+         * bound and the rank of each upper bound, and returns the number of distinct cuts.
+         */
+        private static int rankEndpoints(long[][] endpoints, long[] bounds, int[] lowers, int[] uppers) {
+            int distinct = 0;
+            for (long[] endpoint : endpoints) {
+                if (distinct == 0 || compareBounds(endpoint, 0, bounds, distinct - 1) != 0) {
+                    System.arraycopy(endpoint, 0, bounds, distinct * WORDS, WORDS);
+                    distinct++;
+                }
+                int index = (int) (endpoint[WORDS] >>> 1);
+                if ((endpoint[WORDS] & 1) == 0) {
+                    lowers[index] = distinct;
+                } else {
+                    uppers[index] = distinct - 1;
+                }
+            }
+            return distinct;
+        }
+
+        /** Returns the indexes of the non-empty intervals, ordered by the node which holds them. */
+        private static int[] groupByNode(int[] nodes, int[] offsets) {
+            int[] byNode = new int[offsets[offsets.length - 1]];
+            int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+            for (int index = 0; index < nodes.length; index++) {
+                if (nodes[index] >= 0) {
+                    byNode[next[nodes[index]]++] = index;
+                }
+            }
+            return byNode;
+        }
+
+        private static long[] endpoint(long[] cut, long id) {
+            long[] endpoint = Arrays.copyOf(cut, WORDS + 1);
+            endpoint[WORDS] = id;
+            return endpoint;
+        }
+
+        /**
+         * Returns the rank of the first node whose center lies between the given ranks, on the path that a binary
+         * search over the ranks from zero to {@code maxRank} would take, or {@code -1} if the interval is empty.
+         */
+        private static int node(int lower, int upper, int maxRank) {
+            int low = 0;
+            int high = maxRank;
+            while (low <= high && lower <= upper) {
+                int mid = (low + high) >>> 1;
+                if (upper < mid) {
+                    high = mid - 1;
+                } else if (lower > mid) {
+                    low = mid + 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        /** Sorts the intervals of the node by ascending lower rank, and separately by descending upper rank. */
+        private void sortNode(int node, int[] byNode, int[] lowers, int[] uppers, List<Integer> positions) {
+            int from = offsets[node];
+            int length = offsets[node + 1] - from;
+            long[] byLower = new long[length];
+            long[] byUpper = new long[length];
+            for (int i = 0; i < length; i++) {
+                int index = byNode[from + i];
+                byLower[i] = ((long) lowers[index] << 32) | index;
+                byUpper[i] = ((long) (Integer.MAX_VALUE - uppers[index]) << 32) | index;
+            }
+            Arrays.sort(byLower);
+            Arrays.sort(byUpper);
+            for (int i = 0; i < length; i++) {
+                int lowerIndex = (int) byLower[i];
+                int upperIndex = (int) byUpper[i];
+                lowerRanks[from + i] = lowers[lowerIndex];
+                lowerPositions[from + i] = positions.get(lowerIndex);
+                upperRanks[from + i] = uppers[upperIndex];
+                upperPositions[from + i] = positions.get(upperIndex);
+            }
+        }
+
+        void forEachContaining(long high, long middle, long cut, IntConsumer consumer) {
+            int rank = rank(high, middle, cut);
+            int lowRank = 0;
+            int highRank = bounds.length / WORDS;
+            while (lowRank <= highRank) {
+                int mid = (lowRank + highRank) >>> 1;
+                int from = offsets[mid];
+                int to = offsets[mid + 1];
+                if (rank < mid) {
+                    // every interval of the node reaches up to the center, so only its lower bound needs checking
+                    for (int i = from; i < to && lowerRanks[i] <= rank; i++) {
+                        consumer.accept(lowerPositions[i]);
+                    }
+                    highRank = mid - 1;
+                } else if (rank > mid) {
+                    for (int i = from; i < to && upperRanks[i] >= rank; i++) {
+                        consumer.accept(upperPositions[i]);
+                    }
+                    lowRank = mid + 1;
+                } else {
+                    for (int i = from; i < to; i++) {
+                        consumer.accept(lowerPositions[i]);
+                    }
+                    return;
+                }
+            }
+        }
+
+        /** Returns the number of bounds which are less than or equal to the given cut. */
+        private int rank(long high, long middle, long cut) {
+            int low = 0;
+            int highIndex = bounds.length / WORDS;
+            while (low < highIndex) {
+                int mid = (low + highIndex) >>> 1;
+                if (compareBound(mid, high, middle, cut) <= 0) {
+                    low = mid + 1;
+                } else {
+                    highIndex = mid;
+                }
+            }
+            return low;
+        }
+
+        private int compareBound(int index, long high, long middle, long cut) {
+            int offset = index * WORDS;
+            if (bounds[offset] != high) {
+                return Long.compareUnsigned(bounds[offset], high);
+            }
+            if (bounds[offset + 1] != middle) {
+                return Long.compareUnsigned(bounds[offset + 1], middle);
+            }
+            return Long.compareUnsigned(bounds[offset + 2], cut);
+        }
+
+        private static int compareBounds(long[] left, int leftIndex, long[] right, int rightIndex) {
+            int leftOffset = leftIndex * WORDS;
+            int rightOffset = rightIndex * WORDS;
+            for (int word = 0; word < WORDS; word++) {
+                if (left[leftOffset + word] != right[rightOffset + word]) {
+                    return Long.compareUnsigned(left[leftOffset + word], right[rightOffset + word]);
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import static com.palantir.logsafe.Preconditions.checkArgument;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.UnsafeArg;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/**
+ * A contiguous range of orderable versions, such as the compatibility range {@code [1.2.3, 2.0.0)}, in the order of
+ * {@link VersionComparator}. Each bound is either inclusive or exclusive, or absent, in which case the range is
+ * unbounded on that side.
+ *
+ * <p>Ranges are written in interval notation: a square bracket marks an inclusive bound, a parenthesis an exclusive
+ * one, and an absent version an unbounded side, as in {@code [1.2.3, 2.0.0)}, {@code (, 2.0.0]} or {@code [1.0.0,)}.
+ * {@link #valueOf(String)} accepts this notation with or without the space, and {@link #toString()} produces it.
+ *
+ * <p>Use {@link VersionRangeSet} to combine ranges, or to test many of them at once.
+ */
+public final class VersionRange {
+    private static final VersionRange ALL = new VersionRange(null, false, null, false);
+
+    @Nullable
+    private final OrderableSlsVersion lowerBound;
+
+    private final boolean lowerBoundInclusive;
+
+    @Nullable
+    private final OrderableSlsVersion upperBound;
+
+    private final boolean upperBoundInclusive;
+
+    private VersionRange(
+            @Nullable OrderableSlsVersion lowerBound,
+            boolean lowerBoundInclusive,
+            @Nullable OrderableSlsVersion upperBound,
+            boolean upperBoundInclusive) {
+        checkArgument(
+                lowerBound == null || upperBound == null || lowerBound.compareTo(upperBound) <= 0,
+                "Lower bound must not be greater than the upper bound",
+                SafeArg.of("lowerBound", lowerBound),
+                SafeArg.of("upperBound", upperBound));
+        this.lowerBound = lowerBound;
+        this.lowerBoundInclusive = lowerBound != null && lowerBoundInclusive;
+        this.upperBound = upperBound;
+        this.upperBoundInclusive = upperBound != null && upperBoundInclusive;
+    }
+
+    /** Returns the range with the given bounds, where a null version leaves that side unbounded. */
+    public static VersionRange of(
+            @Nullable OrderableSlsVersion lowerBound,
+            boolean lowerBoundInclusive,
+            @Nullable OrderableSlsVersion upperBound,
+            boolean upperBoundInclusive) {
+        return new VersionRange(lowerBound, lowerBoundInclusive, upperBound, upperBoundInclusive);
+    }
+
+    /** Returns {@code [lower, upper]}. */
+    public static VersionRange closed(OrderableSlsVersion lower, OrderableSlsVersion upper) {
+        return new VersionRange(lower, true, upper, true);
+    }
+
+    /** Returns {@code [lower, upper)}. */
+    public static VersionRange closedOpen(OrderableSlsVersion lower, OrderableSlsVersion upper) {
+        return new VersionRange(lower, true, upper, false);
+    }
+
+    /** Returns {@code (lower, upper]}. */
+    public static VersionRange openClosed(OrderableSlsVersion lower, OrderableSlsVersion upper) {
+        return new VersionRange(lower, false, upper, true);
+    }
+
+    /** Returns {@code (lower, upper)}. */
+    public static VersionRange open(OrderableSlsVersion lower, OrderableSlsVersion upper) {
+        return new VersionRange(lower, false, upper, false);
+    }
+
+    /** Returns {@code [lower,)}. */
+    public static VersionRange atLeast(OrderableSlsVersion lower) {
+        return new VersionRange(lower, true, null, false);
+    }
+
+    /** Returns {@code (lower,)}. */
+    public static VersionRange greaterThan(OrderableSlsVersion lower) {
+        return new VersionRange(lower, false, null, false);
+    }
+
+    /** Returns {@code (, upper]}. */
+    public static VersionRange atMost(OrderableSlsVersion upper) {
+        return new VersionRange(null, false, upper, true);
+    }
+
+    /** Returns {@code (, upper)}. */
+    public static VersionRange lessThan(OrderableSlsVersion upper) {
+        return new VersionRange(null, false, upper, false);
+    }
+
+    /** Returns the range containing every orderable version. */
+    public static VersionRange all() {
+        return ALL;
+    }
+
+    @JsonCreator
+    public static VersionRange valueOf(String value) {
+        Optional<VersionRange> optional = safeValueOf(value);
+        checkArgument(optional.isPresent(), "Not a valid version range: {value}", UnsafeArg.of("value", value));
+        return optional.get();
+    }
+
+    /** The same as {@link #valueOf(String)}, but returns {@link Optional#empty} if the format is invalid. */
+    public static Optional<VersionRange> safeValueOf(String value) {
+        int comma = value == null ? -1 : value.indexOf(',');
+        if (comma < 0 || !isBracketed(value)) {
+            return Optional.empty();
+        }
+        String lower = value.substring(1, comma);
+        String upper = value.substring(comma + 1, value.length() - 1);
+        if (upper.startsWith(" ")) {
+            upper = upper.substring(1);
+        }
+        Optional<OrderableSlsVersion> lowerBound = OrderableSlsVersion.safeValueOf(lower);
+        Optional<OrderableSlsVersion> upperBound = OrderableSlsVersion.safeValueOf(upper);
+        if (lowerBound.isEmpty() != lower.isEmpty()
+                || upperBound.isEmpty() != upper.isEmpty()
+                || !isOrdered(lowerBound, upperBound)) {
+            return Optional.empty();
+        }
+        return Optional.of(new VersionRange(
+                lowerBound.orElse(null),
+                value.charAt(0) == '[',
+                upperBound.orElse(null),
+                value.charAt(value.length() - 1) == ']'));
+    }
+
+    private static boolean isBracketed(String value) {
+        char open = value.charAt(0);
+        char close = value.charAt(value.length() - 1);
+        return (open == '[' || open == '(') && (close == ']' || close == ')');
+    }
+
+    private static boolean isOrdered(Optional<OrderableSlsVersion> lower, Optional<OrderableSlsVersion> upper) {
+        return lower.isEmpty() || upper.isEmpty() || lower.get().compareTo(upper.get()) <= 0;
+    }
+
+    public Optional<OrderableSlsVersion> getLowerBound() {
+        return Optional.ofNullable(lowerBound);
+    }
+
+    /** Returns true iff there is a lower bound and it is contained in the range. */
+    public boolean isLowerBoundInclusive() {
+        return lowerBoundInclusive;
+    }
+
+    public Optional<OrderableSlsVersion> getUpperBound() {
+        return Optional.ofNullable(upperBound);
+    }
+
+    /** Returns true iff there is an upper bound and it is contained in the range. */
+    public boolean isUpperBoundInclusive() {
+        return upperBoundInclusive;
+    }
+
+    /** Returns true iff the given version lies within the bounds of this range. */
+    public boolean contains(OrderableSlsVersion version) {
+        if (lowerBound != null) {
+            int comparison = version.compareTo(lowerBound);
+            if (comparison < 0 || (comparison == 0 && !lowerBoundInclusive)) {
+                return false;
+            }
+        }
+        if (upperBound != null) {
+            int comparison = version.compareTo(upperBound);
+            return comparison < 0 || (comparison == 0 && upperBoundInclusive);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true iff the bounds are the same version and at least one of them is exclusive, as in
+     * {@code [1.0.0, 1.0.0)}.
+     */
+    public boolean isEmpty() {
+        return lowerBound != null
+                && upperBound != null
+                && !(lowerBoundInclusive && upperBoundInclusive)
+                && lowerBound.compareTo(upperBound) == 0;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof VersionRange)) {
+            return false;
+        }
+        VersionRange range = (VersionRange) other;
+        return lowerBoundInclusive == range.lowerBoundInclusive
+                && upperBoundInclusive == range.upperBoundInclusive
+                && Objects.equals(lowerBound, range.lowerBound)
+                && Objects.equals(upperBound, range.upperBound);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lowerBound, lowerBoundInclusive, upperBound, upperBoundInclusive);
+    }
+
+    @JsonValue
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(lowerBoundInclusive ? '[' : '(');
+        if (lowerBound != null) {
+            builder.append(lowerBound.getValue());
+        }
+        builder.append(upperBound == null ? "," : ", ");
+        if (upperBound != null) {
+            builder.append(upperBound.getValue());
+        }
+        return builder.append(upperBoundInclusive ? ']' : ')').toString();
+    }
+}
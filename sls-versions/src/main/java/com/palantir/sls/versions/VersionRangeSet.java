@@ -0,0 +1,290 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable set of versions made up of disjoint {@link VersionRange}s, which are merged when they overlap or touch.
+ * Sets can be combined with {@link #union}, {@link #intersection} and {@link #complement}, and {@link #contains} takes
+ * logarithmic time in the number of ranges.
+ *
+ * <p>Internally the set is a sorted array of <i>cuts</i>, each of which lies either just below or just above a
+ * version, encoded as its {@link ExtendedCompactVersion} so that every orderable version can be represented. The
+ * ranges run from the first cut to the second, from the third to the fourth, and so on, so a version is contained iff
+ * an odd number of cuts lie below it, which a binary search finds without allocating.
+ */
+public final class VersionRangeSet {
+    private static final int WORDS = 3;
+
+    // a cut just below the least version, 0.0.0-rc0, and one above every valid key, whose highest bit is never set
+    static final long[] BELOW_ALL = {0, 0, 0};
+    static final long[] ABOVE_ALL = {Long.MIN_VALUE, 0, 0};
+
+    private static final VersionRangeSet EMPTY = new VersionRangeSet(new long[0]);
+    private static final VersionRangeSet ALL = new VersionRangeSet(concat(BELOW_ALL, ABOVE_ALL));
+
+    /**
+     * Each cut is three words: the high and middle words of the version's {@link ExtendedCompactVersion}, and its low
+     * word shifted left by one, whose lowest bit is set iff the cut lies just above the version rather than below.
+     */
+    private final long[] cuts;
+
+    private VersionRangeSet(long[] cuts) {
+        this.cuts = cuts;
+    }
+
+    public static VersionRangeSet empty() {
+        return EMPTY;
+    }
+
+    public static VersionRangeSet all() {
+        return ALL;
+    }
+
+    public static VersionRangeSet of(VersionRange... ranges) {
+        return copyOf(Arrays.asList(ranges));
+    }
+
+    /** Returns the set of versions contained in any of the given ranges. */
+    public static VersionRangeSet copyOf(Collection<VersionRange> ranges) {
+        List<long[]> intervals = new ArrayList<>(ranges.size());
+        for (VersionRange range : ranges) {
+            long[] interval = concat(lowerCut(range), upperCut(range));
+            if (compareCuts(interval, 0, interval, 1) < 0) {
+                intervals.add(interval);
+            }
+        }
+        intervals.sort((left, right) -> compareCuts(left, 0, right, 0));
+
+        long[] merged = new long[intervals.size() * 2 * WORDS];
+        int count = 0;
+        for (long[] interval : intervals) {
+            if (count > 0 && compareCuts(interval, 0, merged, count - 1) <= 0) {
+                // overlaps or touches the previous interval, so extend it if this one ends later
+                if (compareCuts(interval, 1, merged, count - 1) > 0) {
+                    System.arraycopy(interval, WORDS, merged, (count - 1) * WORDS, WORDS);
+                }
+            } else {
+                System.arraycopy(interval, 0, merged, count * WORDS, 2 * WORDS);
+                count += 2;
+            }
+        }
+        return new VersionRangeSet(Arrays.copyOf(merged, count * WORDS));
+    }
+
+    /** Returns the cut at the lower bound of the range, which is {@link #BELOW_ALL} if it is unbounded. */
+    static long[] lowerCut(VersionRange range) {
+        return range.getLowerBound()
+                .map(version -> cut(version, !range.isLowerBoundInclusive()))
+                .orElse(BELOW_ALL);
+    }
+
+    /** Returns the cut at the upper bound of the range, which is {@link #ABOVE_ALL} if it is unbounded. */
+    static long[] upperCut(VersionRange range) {
+        return range.getUpperBound()
+                .map(version -> cut(version, range.isUpperBoundInclusive()))
+                .orElse(ABOVE_ALL);
+    }
+
+    private static long[] cut(OrderableSlsVersion version, boolean above) {
+        ExtendedCompactVersion key = ExtendedCompactVersion.from(version);
+        return new long[] {key.getHigh(), key.getMiddle(), (key.getLow() << 1) | (above ? 1 : 0)};
+    }
+
+    private static long[] concat(long[] first, long[] second) {
+        long[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    /** Returns true iff any of the ranges contains the given version. */
+    public boolean contains(OrderableSlsVersion version) {
+        return contains(
+                ExtendedCompactVersion.encodeHigh(version),
+                ExtendedCompactVersion.encodeMiddle(version),
+                ExtendedCompactVersion.encodeLow(version));
+    }
+
+    /** Returns true iff any of the ranges contains the given version. */
+    public boolean contains(CompactVersion version) {
+        ExtendedCompactVersion key = version.toExtended();
+        return contains(key.getHigh(), key.getMiddle(), key.getLow());
+    }
+
+    private boolean contains(long high, long middle, long low) {
+        // the version lies above a cut iff the cut's key is less than (version, below)
+        long cutLow = low << 1;
+        int lowIndex = 0;
+        int highIndex = cuts.length / WORDS;
+        while (lowIndex < highIndex) {
+            int mid = (lowIndex + highIndex) >>> 1;
+            if (compareCut(mid, high, middle, cutLow) <= 0) {
+                lowIndex = mid + 1;
+            } else {
+                highIndex = mid;
+            }
+        }
+        // lowIndex cuts lie below the version
+        return (lowIndex & 1) == 1;
+    }
+
+    private int compareCut(int index, long high, long middle, long low) {
+        int offset = index * WORDS;
+        if (cuts[offset] != high) {
+            return Long.compareUnsigned(cuts[offset], high);
+        }
+        if (cuts[offset + 1] != middle) {
+            return Long.compareUnsigned(cuts[offset + 1], middle);
+        }
+        return Long.compareUnsigned(cuts[offset + 2], low);
+    }
+
+    private static int compareCuts(long[] left, int leftIndex, long[] right, int rightIndex) {
+        int leftOffset = leftIndex * WORDS;
+        int rightOffset = rightIndex * WORDS;
+        for (int word = 0; word < WORDS; word++) {
+            if (left[leftOffset + word] != right[rightOffset + word]) {
+                return Long.compareUnsigned(left[leftOffset + word], right[rightOffset + word]);
+            }
+        }
+        return 0;
+    }
+
+    public boolean isEmpty() {
+        return cuts.length == 0;
+    }
+
+    /** Returns the set of versions contained in this set, the other set, or both. */
+    public VersionRangeSet union(VersionRangeSet other) {
+        return combine(other, true);
+    }
+
+    /** Returns the set of versions contained in both this set and the other set. */
+    public VersionRangeSet intersection(VersionRangeSet other) {
+        return combine(other, false);
+    }
+
+    /**
+     * Sweeps over the cuts of both sets in order, tracking whether the sweep is inside each of them, and emits a cut
+     * wherever the combined state changes.
+     */
+    private VersionRangeSet combine(VersionRangeSet other, boolean union) {
+        long[] left = cuts;
+        long[] right = other.cuts;
+        int leftCount = left.length / WORDS;
+        int rightCount = right.length / WORDS;
+        long[] result = new long[left.length + right.length];
+        int count = 0;
+        int leftIndex = 0;
+        int rightIndex = 0;
+        boolean inside = false;
+        while (leftIndex < leftCount || rightIndex < rightCount) {
+            int comparison = compareNext(left, leftIndex, leftCount, right, rightIndex, rightCount);
+            long[] source = comparison <= 0 ? left : right;
+            int sourceIndex = comparison <= 0 ? leftIndex : rightIndex;
+            if (comparison <= 0) {
+                leftIndex++;
+            }
+            if (comparison >= 0) {
+                rightIndex++;
+            }
+            // after passing an odd number of cuts of a set, the sweep is inside it
+            boolean insideLeft = (leftIndex & 1) == 1;
+            boolean insideRight = (rightIndex & 1) == 1;
+            boolean nowInside = union ? insideLeft || insideRight : insideLeft && insideRight;
+            if (nowInside != inside) {
+                System.arraycopy(source, sourceIndex * WORDS, result, count * WORDS, WORDS);
+                count++;
+                inside = nowInside;
+            }
+        }
+        return new VersionRangeSet(Arrays.copyOf(result, count * WORDS));
+    }
+
+    private static int compareNext(
+            long[] left, int leftIndex, int leftCount, long[] right, int rightIndex, int rightCount) {
+        if (leftIndex == leftCount) {
+            return 1;
+        }
+        if (rightIndex == rightCount) {
+            return -1;
+        }
+        return compareCuts(left, leftIndex, right, rightIndex);
+    }
+
+    /** Returns the set of orderable versions which are not contained in this set. */
+    public VersionRangeSet complement() {
+        int count = cuts.length / WORDS;
+        boolean startsBelowAll = count > 0 && compareCuts(cuts, 0, BELOW_ALL, 0) == 0;
+        boolean endsAboveAll = count > 0 && compareCuts(cuts, count - 1, ABOVE_ALL, 0) == 0;
+        long[] result = cuts;
+        result = startsBelowAll ? Arrays.copyOfRange(result, WORDS, result.length) : concat(BELOW_ALL, result);
+        result = endsAboveAll ? Arrays.copyOf(result, result.length - WORDS) : concat(result, ABOVE_ALL);
+        return new VersionRangeSet(result);
+    }
+
+    /**
+     * Returns the disjoint ranges making up this set, in ascending order. Sides which extend to the least or beyond
+     * the greatest version are unbounded, and the git hash of snapshot bounds is always {@code gaaaaaa}.
+     */
+    public List<VersionRange> asRanges() {
+        List<VersionRange> ranges = new ArrayList<>(cuts.length / WORDS / 2);
+        for (int index = 0; index < cuts.length / WORDS; index += 2) {
+            OrderableSlsVersion lower = boundVersion(index, BELOW_ALL);
+            OrderableSlsVersion upper = boundVersion(index + 1, ABOVE_ALL);
+            ranges.add(VersionRange.of(lower, !isAbove(index), upper, isAbove(index + 1)));
+        }
+        return Collections.unmodifiableList(ranges);
+    }
+
+    @Nullable
+    private OrderableSlsVersion boundVersion(int index, long[] unbounded) {
+        if (compareCuts(cuts, index, unbounded, 0) == 0) {
+            return null;
+        }
+        int offset = index * WORDS;
+        return new ExtendedCompactVersion(cuts[offset], cuts[offset + 1], cuts[offset + 2] >>> 1).toSlsVersion();
+    }
+
+    private boolean isAbove(int index) {
+        return (cuts[index * WORDS + 2] & 1) == 1;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        return this == other
+                || (other instanceof VersionRangeSet && Arrays.equals(cuts, ((VersionRangeSet) other).cuts));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(cuts);
+    }
+
+    /** Returns the ranges of {@link #asRanges()}, separated by commas and enclosed in braces. */
+    @Override
+    public String toString() {
+        return asRanges().stream().map(VersionRange::toString).collect(Collectors.joining(", ", "{", "}"));
+    }
+}
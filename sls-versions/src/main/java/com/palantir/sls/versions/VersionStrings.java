@@ -0,0 +1,252 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Renders orderable versions from their components straight into the destination, printing digits directly rather
+ * than building an intermediate {@link String}. Every method takes the components as decoded from a compact
+ * representation: the type, the three version numbers, the RC number and distance (which are ignored unless the
+ * type has them), and the git hash of snapshots without its leading {@code g}.
+ */
+final class VersionStrings {
+    private static final String RC = "-rc";
+    private static final String GIT_HASH_PREFIX = "-g";
+
+    private VersionStrings() {}
+
+    /** Returns the number of characters in the rendered version. */
+    static int length(
+            SlsVersionType type,
+            int major,
+            int minor,
+            int patch,
+            int rcNumber,
+            int distanceFromVersion,
+            int gitHashLength) {
+        int length = digits(major) + 1 + digits(minor) + 1 + digits(patch);
+        if (type.isReleaseCandidate()) {
+            length += RC.length() + digits(rcNumber);
+        }
+        if (type.isSnapshot()) {
+            length += 1 + digits(distanceFromVersion) + GIT_HASH_PREFIX.length() + gitHashLength;
+        }
+        return length;
+    }
+
+    /** Returns the number of decimal digits in the given non-negative value. */
+    static int digits(int value) {
+        int digits = 1;
+        for (int remaining = value / 10; remaining > 0; remaining /= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    static void append(
+            StringBuilder builder,
+            SlsVersionType type,
+            int major,
+            int minor,
+            int patch,
+            int rcNumber,
+            int distanceFromVersion,
+            CharSequence gitHash) {
+        builder.append(major).append('.').append(minor).append('.').append(patch);
+        if (type.isReleaseCandidate()) {
+            builder.append(RC).append(rcNumber);
+        }
+        if (type.isSnapshot()) {
+            builder.append('-').append(distanceFromVersion).append(GIT_HASH_PREFIX).append(gitHash);
+        }
+    }
+
+    static void append(
+            Appendable appendable,
+            SlsVersionType type,
+            int major,
+            int minor,
+            int patch,
+            int rcNumber,
+            int distanceFromVersion,
+            CharSequence gitHash)
+            throws IOException {
+        appendDigits(appendable, major);
+        appendable.append('.');
+        appendDigits(appendable, minor);
+        appendable.append('.');
+        appendDigits(appendable, patch);
+        if (type.isReleaseCandidate()) {
+            appendable.append(RC);
+            appendDigits(appendable, rcNumber);
+        }
+        if (type.isSnapshot()) {
+            appendable.append('-');
+            appendDigits(appendable, distanceFromVersion);
+            appendable.append(GIT_HASH_PREFIX).append(gitHash);
+        }
+    }
+
+    private static void appendDigits(Appendable appendable, int value) throws IOException {
+        int divisor = 1;
+        while (value / divisor >= 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            appendable.append((char) ('0' + (value / divisor) % 10));
+        }
+    }
+
+    /**
+     * Writes the version as ASCII bytes starting at the given offset, and returns the number of bytes written.
+     *
+     * @throws IndexOutOfBoundsException if the version does not fit, in which case nothing is written
+     */
+    static int writeAscii(
+            byte[] bytes,
+            int offset,
+            SlsVersionType type,
+            int major,
+            int minor,
+            int patch,
+            int rcNumber,
+            int distanceFromVersion,
+            CharSequence gitHash) {
+        int length = length(type, major, minor, patch, rcNumber, distanceFromVersion, gitHash.length());
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int next = writeDigits(bytes, offset, major);
+        bytes[next++] = '.';
+        next = writeDigits(bytes, next, minor);
+        bytes[next++] = '.';
+        next = writeDigits(bytes, next, patch);
+        if (type.isReleaseCandidate()) {
+            next = writeAscii(bytes, next, RC);
+            next = writeDigits(bytes, next, rcNumber);
+        }
+        if (type.isSnapshot()) {
+            bytes[next++] = '-';
+            next = writeDigits(bytes, next, distanceFromVersion);
+            next = writeAscii(bytes, next, GIT_HASH_PREFIX);
+            writeAscii(bytes, next, gitHash);
+        }
+        return length;
+    }
+
+    /**
+     * Writes the version as ASCII bytes starting at the given absolute offset, ignoring and not changing the buffer's
+     * position, and returns the number of bytes written.
+     *
+     * @throws IndexOutOfBoundsException if the version does not fit before the buffer's limit, in which case nothing
+     *     is written
+     */
+    static int writeAscii(
+            ByteBuffer buffer,
+            int offset,
+            SlsVersionType type,
+            int major,
+            int minor,
+            int patch,
+            int rcNumber,
+            int distanceFromVersion,
+            CharSequence gitHash) {
+        int length = length(type, major, minor, patch, rcNumber, distanceFromVersion, gitHash.length());
+        Objects.checkFromIndexSize(offset, length, buffer.limit());
+        if (buffer.hasArray()) {
+            return writeAscii(
+                    buffer.array(),
+                    buffer.arrayOffset() + offset,
+                    type,
+                    major,
+                    minor,
+                    patch,
+                    rcNumber,
+                    distanceFromVersion,
+                    gitHash);
+        }
+        int next = writeDigits(buffer, offset, major);
+        buffer.put(next++, (byte) '.');
+        next = writeDigits(buffer, next, minor);
+        buffer.put(next++, (byte) '.');
+        next = writeDigits(buffer, next, patch);
+        if (type.isReleaseCandidate()) {
+            next = writeAscii(buffer, next, RC);
+            next = writeDigits(buffer, next, rcNumber);
+        }
+        if (type.isSnapshot()) {
+            buffer.put(next++, (byte) '-');
+            next = writeDigits(buffer, next, distanceFromVersion);
+            next = writeAscii(buffer, next, GIT_HASH_PREFIX);
+            writeAscii(buffer, next, gitHash);
+        }
+        return length;
+    }
+
+    /** Copies an ASCII string such as {@link OrderableSlsVersion#getValue()}, checking bounds up front. */
+    static int copyAscii(CharSequence value, byte[] bytes, int offset) {
+        Objects.checkFromIndexSize(offset, value.length(), bytes.length);
+        writeAscii(bytes, offset, value);
+        return value.length();
+    }
+
+    /** The same as {@link #copyAscii(CharSequence, byte[], int)}, at an absolute offset of the buffer. */
+    static int copyAscii(CharSequence value, ByteBuffer buffer, int offset) {
+        Objects.checkFromIndexSize(offset, value.length(), buffer.limit());
+        if (buffer.hasArray()) {
+            writeAscii(buffer.array(), buffer.arrayOffset() + offset, value);
+        } else {
+            writeAscii(buffer, offset, value);
+        }
+        return value.length();
+    }
+
+    private static int writeDigits(byte[] bytes, int offset, int value) {
+        int end = offset + digits(value);
+        int remaining = value;
+        for (int i = end - 1; i >= offset; i--) {
+            bytes[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return end;
+    }
+
+    private static int writeDigits(ByteBuffer buffer, int offset, int value) {
+        int end = offset + digits(value);
+        int remaining = value;
+        for (int i = end - 1; i >= offset; i--) {
+            buffer.put(i, (byte) ('0' + remaining % 10));
+            remaining /= 10;
+        }
+        return end;
+    }
+
+    private static int writeAscii(byte[] bytes, int offset, CharSequence chars) {
+        for (int i = 0; i < chars.length(); i++) {
+            bytes[offset + i] = (byte) chars.charAt(i);
+        }
+        return offset + chars.length();
+    }
+
+    private static int writeAscii(ByteBuffer buffer, int offset, CharSequence chars) {
+        for (int i = 0; i < chars.length(); i++) {
+            buffer.put(offset + i, (byte) chars.charAt(i));
+        }
+        return offset + chars.length();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Test;
+
+public final class CompactVersionArrayTests {
+
+    private static final List<String> versions =
+            Arrays.asList("0.0.0-rc0", "0.0.0", "0.0.1", "1.0.0-rc1", "1.0.0-rc1-1-gbbb", "1.0.0", "1.0.0-2-gbbb");
+
+    @Test
+    public void testAddsParsedStrings() {
+        CompactVersionArray array = new CompactVersionArray(1);
+        array.addAll(versions);
+
+        assertThat(array.size()).isEqualTo(versions.size());
+        assertThat(array.isSorted()).isTrue();
+        for (int i = 0; i < versions.size(); i++) {
+            CompactVersion expected = CompactVersion.parse(versions.get(i));
+            assertThat(array.get(i)).isEqualTo(expected);
+            assertThat(array.getMsb(i)).isEqualTo(expected.getMsb());
+            assertThat(array.getLsb(i)).isEqualTo(expected.getLsb());
+        }
+        assertThatThrownBy(() -> array.get(versions.size())).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void testAddAllIsAtomic() {
+        CompactVersionArray array = new CompactVersionArray();
+        array.add(CompactVersion.parse("2.0.0"));
+
+        assertThatThrownBy(() -> array.addAll(Arrays.asList("3.0.0", "1.0.0", "1.0.0.dirty")))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+        assertThat(array.size()).isEqualTo(1);
+        assertThat(array.isSorted()).isTrue();
+    }
+
+    @Test
+    public void testForEachVisitsPrimitivesInOrder() {
+        CompactVersionArray array = new CompactVersionArray();
+        array.addAll(versions);
+        List<CompactVersion> visited = new ArrayList<>();
+        array.forEach((msb, lsb) -> visited.add(new CompactVersion(msb, lsb)));
+
+        assertThat(visited).isEqualTo(versions.stream().map(CompactVersion::parse).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testSpliteratorReportsSortedOnlyWhenSorted() {
+        CompactVersionArray array = new CompactVersionArray();
+        array.addAll(versions);
+        int characteristics = Spliterator.SORTED | Spliterator.SIZED | Spliterator.SUBSIZED;
+
+        assertThat(array.spliterator().characteristics() & characteristics).isEqualTo(characteristics);
+        assertThat(array.spliterator().getComparator()).isNull();
+
+        array.add(CompactVersion.parse("0.0.0"));
+        assertThat(array.isSorted()).isFalse();
+        assertThat(array.spliterator().characteristics() & Spliterator.SORTED).isZero();
+    }
+
+    @Test
+    public void testParallelStreamSeesEveryElementInOrder() {
+        CompactVersionArray array = new CompactVersionArray();
+        List<CompactVersion> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            CompactVersion version = CompactVersion.parse("1." + (i % 100) + "." + i);
+            array.add(version);
+            expected.add(version);
+        }
+
+        assertThat(array.parallelStream().collect(Collectors.toList())).isEqualTo(expected);
+        assertThat(array.spliterator().trySplit().estimateSize()).isEqualTo(5_000);
+    }
+
+    @Property(seed = "3226259347315412165", tries = 10)
+    public void testSortsLikeCompareTo(@ForAll("compactVersionLists") List<String> values) {
+        CompactVersionArray sequential = new CompactVersionArray();
+        CompactVersionArray parallel = new CompactVersionArray();
+        CompactVersion[] expected = new CompactVersion[values.size()];
+        for (int i = 0; i < values.size(); i++) {
+            CompactVersion version = CompactVersion.parse(values.get(i));
+            sequential.add(version);
+            parallel.add(version);
+            expected[i] = version;
+        }
+        Arrays.sort(expected);
+        sequential.sort();
+        parallel.parallelSort();
+
+        assertThat(sequential.isSorted()).isTrue();
+        assertThat(sequential.stream().toArray()).isEqualTo(expected);
+        assertThat(parallel.stream().toArray()).isEqualTo(expected);
+    }
+
+    @Test
+    public void testSortsArbitraryRangesOfArbitraryValues() {
+        SplittableRandom random = new SplittableRandom(1);
+        long[] msbs = random.longs(1000).map(value -> value % 4).toArray();
+        long[] lsbs = random.longs(1000).toArray();
+        CompactVersion[] expected = new CompactVersion[800];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = new CompactVersion(msbs[100 + i], lsbs[100 + i]);
+        }
+        Arrays.sort(expected);
+
+        CompactVersionRadixSort.sort(msbs, lsbs, 100, 900);
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(new CompactVersion(msbs[100 + i], lsbs[100 + i])).isEqualTo(expected[i]);
+        }
+    }
+
+    @Property(seed = "3226259347315412165", tries = 100)
+    public void testMatchAllSetsBitsOfMatchingElements(@ForAll("smallVersionLists") List<String> values) {
+        CompactVersionArray array = new CompactVersionArray();
+        array.addAll(values);
+        int size = array.size();
+        for (String value : Arrays.asList("x.x.x", "1.x.x", "1.2.x", "1.2.1", "1.2000000.x")) {
+            SlsVersionMatcher matcher = SlsVersionMatcher.valueOf(value);
+            BitSet expected = new BitSet();
+            for (int i = 0; i < size; i++) {
+                expected.set(i, matcher.matches(array.get(i)));
+            }
+            long[] bits = array.matchAll(matcher);
+            assertThat(bits.length).isEqualTo((size + 63) / 64);
+            assertThat(BitSet.valueOf(bits)).as(value + " over " + size).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testComparesEachElement() {
+        SplittableRandom random = new SplittableRandom(3);
+        CompactVersionArray left = new CompactVersionArray();
+        CompactVersionArray right = new CompactVersionArray();
+        for (int i = 0; i < 300_000; i++) {
+            // mostly versions which differ only in their lsb, or not at all
+            long msb = random.nextInt(4);
+            left.add(msb, random.nextInt(3) - 1);
+            right.add(random.nextInt(8) == 0 ? random.nextInt(4) : msb, random.nextInt(3) - 1);
+        }
+        int[] expected = new int[left.size()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = Integer.signum(left.get(i).compareTo(right.get(i)));
+        }
+
+        assertThat(left.compareEach(right)).isEqualTo(expected);
+        assertThat(left.parallelCompareEach(right)).isEqualTo(expected);
+        assertThatThrownBy(() -> left.compareEach(new CompactVersionArray()))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+    }
+
+    @Provide
+    public Arbitrary<List<String>> compactVersionLists() {
+        // mostly distinct versions spread over the whole compact range, with runs of equal components
+        Arbitrary<String> versions = VersionArbitraries.orderableVersions(Arbitraries.oneOf(
+                Arbitraries.integers().between(0, 2), Arbitraries.integers().between(0, (1 << 20) - 1)));
+        return Arbitraries.of(0, 1, 63, 1000, 300_000).flatMap(size -> versions.list().ofSize(size));
+    }
+
+    @Provide
+    public Arbitrary<List<String>> smallVersionLists() {
+        Arbitrary<String> versions = VersionArbitraries.orderableVersions(Arbitraries.integers().between(0, 2));
+        return Arbitraries.of(0, 1, 63, 64, 65, 1000).flatMap(size -> versions.list().ofSize(size));
+    }
+}
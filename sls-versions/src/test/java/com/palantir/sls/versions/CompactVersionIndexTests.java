@@ -0,0 +1,151 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Test;
+
+public final class CompactVersionIndexTests {
+
+    @Property(seed = "3226259347315412165", tries = 2000)
+    public void testNavigatesLikeTreeSet(
+            @ForAll("versionLists") List<String> values, @ForAll("versions") String queryValue) {
+        List<OrderableSlsVersion> versions =
+                values.stream().map(OrderableSlsVersion::valueOf).collect(Collectors.toList());
+        NavigableSet<OrderableSlsVersion> expected = new TreeSet<>(versions);
+        CompactVersionIndex index = CompactVersionIndex.copyOf(versions);
+        OrderableSlsVersion query = OrderableSlsVersion.valueOf(queryValue);
+
+        assertThat(index.size()).isEqualTo(expected.size());
+        assertThat(index.contains(query)).isEqualTo(expected.contains(query));
+        assertThat(element(index, index.floor(query))).isEqualTo(expected.floor(query));
+        assertThat(element(index, index.ceiling(query))).isEqualTo(expected.ceiling(query));
+        assertThat(element(index, index.higher(query))).isEqualTo(expected.higher(query));
+        assertThat(element(index, index.lower(query))).isEqualTo(expected.lower(query));
+        assertThat(index.floor(queryValue)).isEqualTo(index.floor(CompactVersion.from(query)));
+    }
+
+    @Test
+    public void testSubRangeIsAView() {
+        CompactVersionIndex index = CompactVersionIndex.parse(
+                Arrays.asList("2.0.0", "1.2.3", "1.2.3", "1.2.3-rc1", "1.5.0", "2.0.0-rc1", "0.9.0", "2.0.1"));
+        CompactVersionIndex range = index.subRange("1.2.3", true, "2.0.0", false);
+
+        assertThat(index.size()).isEqualTo(7);
+        assertThat(range.size()).isEqualTo(3);
+        assertThat(range.get(0)).isEqualTo(CompactVersion.parse("1.2.3"));
+        assertThat(range.get(2)).isEqualTo(CompactVersion.parse("2.0.0-rc1"));
+        assertThat(range.floor("3.0.0")).isEqualTo(2);
+        assertThat(range.ceiling("0.1.0")).isZero();
+        assertThat(range.higher("2.0.0-rc1")).isEqualTo(-1);
+        assertThat(range.contains("2.0.0")).isFalse();
+        assertThat(range.subRange("1.5.0", false, "9.0.0", true).size()).isEqualTo(1);
+        assertThat(index.subRange("2.0.0", true, "1.0.0", true).isEmpty()).isTrue();
+        assertThatThrownBy(() -> range.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Property(seed = "3226259347315412165", tries = 200)
+    public void testForEachMatchAgreesWithMatcher(@ForAll("versionLists") List<String> values) {
+        CompactVersionIndex index = CompactVersionIndex.parse(values);
+
+        for (String value : Arrays.asList("x.x.x", "1.x.x", "1.2.x", "1.2.1", "2.0.x", "3.x.x", "1.2000000.x")) {
+            SlsVersionMatcher matcher = SlsVersionMatcher.valueOf(value);
+            List<CompactVersion> expected = new ArrayList<>();
+            index.forEach((msb, lsb) -> {
+                if (matcher.matches(new CompactVersion(msb, lsb).toSlsVersion())) {
+                    expected.add(new CompactVersion(msb, lsb));
+                }
+            });
+            List<CompactVersion> matches = new ArrayList<>();
+            index.forEachMatch(matcher, (msb, lsb) -> matches.add(new CompactVersion(msb, lsb)));
+            assertThat(matches).as(value).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testNavigatesBeyondCompactRangeLikeTreeSet() {
+        List<OrderableSlsVersion> versions = new ArrayList<>();
+        for (String value : Arrays.asList("1.0.0", "1.0.1-rc1", "1.0.5", "1.0.5-3-gabc", "2.0.0", "1048575.0.0")) {
+            versions.add(OrderableSlsVersion.valueOf(value));
+        }
+        NavigableSet<OrderableSlsVersion> expected = new TreeSet<>(versions);
+        CompactVersionIndex index = CompactVersionIndex.copyOf(versions);
+
+        for (String value : Arrays.asList(
+                "1.0.20240115",
+                "1.0.1-rc2000000",
+                "1.0.1-rc1-2000000-gabc",
+                "1.0.5-1048576-gabc",
+                "0.1048576.0",
+                "1048576.0.0",
+                "2147483647.2147483647.2147483647")) {
+            OrderableSlsVersion query = OrderableSlsVersion.valueOf(value);
+            assertThat(index.contains(query)).as(value).isFalse();
+            assertThat(element(index, index.floor(query))).as(value).isEqualTo(expected.floor(query));
+            assertThat(element(index, index.ceiling(query))).as(value).isEqualTo(expected.ceiling(query));
+            assertThat(element(index, index.higher(query))).as(value).isEqualTo(expected.higher(query));
+            assertThat(element(index, index.lower(query))).as(value).isEqualTo(expected.lower(query));
+            assertThat(index.contains(value)).as(value).isFalse();
+            assertThat(index.floor(value)).as(value).isEqualTo(index.floor(query));
+            assertThat(index.ceiling(value)).as(value).isEqualTo(index.ceiling(query));
+            assertThat(index.higher(value)).as(value).isEqualTo(index.higher(query));
+            assertThat(index.lower(value)).as(value).isEqualTo(index.lower(query));
+            assertThat(index.subRange(value, false, "2147483647.0.0", true).size())
+                    .as(value)
+                    .isEqualTo(expected.tailSet(query, false).size());
+        }
+    }
+
+    @Test
+    public void testRejectsNonOrderableQueries() {
+        CompactVersionIndex index = CompactVersionIndex.parse(Arrays.asList("1.0.0"));
+
+        assertThatThrownBy(() -> index.floor("1.0.0.dirty")).isInstanceOf(SafeIllegalArgumentException.class);
+        assertThatThrownBy(() -> index.subRange("1.0.0", true, "1.0.0.dirty", true))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+    }
+
+    @Nullable
+    private static OrderableSlsVersion element(CompactVersionIndex index, int position) {
+        return position < 0 ? null : index.get(position).toSlsVersion();
+    }
+
+    @Provide
+    public Arbitrary<String> versions() {
+        return VersionArbitraries.orderableVersions(Arbitraries.integers().between(0, 2));
+    }
+
+    @Provide
+    public Arbitrary<List<String>> versionLists() {
+        return versions().list().ofMaxSize(500);
+    }
+}
@@ -20,6 +20,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -102,6 +108,129 @@ public final class CompactVersionTests {
         }
     }
 
+    @Test
+    public void testParseMatchesFrom() {
+        for (OrderableSlsVersion version : versions) {
+            assertThat(CompactVersion.parse(version.getValue())).isEqualTo(CompactVersion.from(version));
+            assertThat(CompactVersion.parse(new StringBuilder(version.getValue())))
+                    .isEqualTo(CompactVersion.from(version));
+            assertThat(CompactVersion.tryParse(CharBuffer.wrap(version.getValue())))
+                    .contains(CompactVersion.from(version));
+        }
+    }
+
+    @Test
+    public void testParseRejectsUnrepresentableValues() {
+        for (String value : Arrays.asList(
+                "0.0.0-rc1048576",
+                "0.0.0-1048576-gbbb",
+                "0.0.1048576",
+                "0.1048576.0",
+                "1048576.0.0",
+                "1.0.0-rc1-1048576-gbbb",
+                "1.0.0-foo",
+                "1.0.0.dirty",
+                "1.0",
+                "")) {
+            assertThat(CompactVersion.tryParse(value)).isEmpty();
+            assertThatThrownBy(() -> CompactVersion.parse(value)).isInstanceOf(SafeIllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    public void testSerializedBytesRoundTripAndMatchSortOrder() {
+        for (int i = 0; i < versions.size(); i++) {
+            CompactVersion version = CompactVersion.from(versions.get(i));
+            byte[] bytes = version.toBytes();
+            assertThat(bytes.length).isEqualTo(CompactVersion.BYTES);
+            assertThat(CompactVersion.fromBytes(bytes, 0)).isEqualTo(version);
+            if (i < versions.size() - 1) {
+                byte[] next = CompactVersion.from(versions.get(i + 1)).toBytes();
+                assertThat(Arrays.compareUnsigned(bytes, next)).isNegative();
+            }
+        }
+    }
+
+    @Test
+    public void testWritesBigEndianRegardlessOfBufferOrder() {
+        CompactVersion version = CompactVersion.parse("1.2.3-rc4-5-gbbb");
+        ByteBuffer little = ByteBuffer.allocate(3 + CompactVersion.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        little.position(3);
+        version.writeTo(little);
+
+        assertThat(little.position()).isEqualTo(3 + CompactVersion.BYTES);
+        assertThat(Arrays.copyOfRange(little.array(), 3, 3 + CompactVersion.BYTES)).isEqualTo(version.toBytes());
+        assertThat(CompactVersion.fromBytes(little.array(), 3)).isEqualTo(version);
+    }
+
+    @Test
+    public void testComparesSerializedVersionsInPlace() {
+        ByteBuffer left = ByteBuffer.allocateDirect(versions.size() * CompactVersion.BYTES);
+        ByteBuffer right =
+                ByteBuffer.allocate(1 + versions.size() * CompactVersion.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        right.put((byte) 0);
+        for (OrderableSlsVersion version : versions) {
+            CompactVersion.from(version).writeTo(left);
+            CompactVersion.from(version).writeTo(right);
+        }
+        for (int i = 0; i < versions.size(); i++) {
+            for (int j = 0; j < versions.size(); j++) {
+                int expected = CompactVersion.from(versions.get(i)).compareTo(CompactVersion.from(versions.get(j)));
+                assertThat(CompactVersion.compare(left, i * CompactVersion.BYTES, right, 1 + j * CompactVersion.BYTES))
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void testFromBytesRejectsInvalidEncodings() {
+        byte[] allOnes = new byte[CompactVersion.BYTES];
+        Arrays.fill(allOnes, (byte) 0xFF);
+        byte[] releaseWithRcNumber = CompactVersion.parse("1.0.0").toBytes();
+        releaseWithRcNumber[CompactVersion.BYTES - 3] = 1;
+
+        assertThatThrownBy(() -> CompactVersion.fromBytes(allOnes, 0)).isInstanceOf(SafeIllegalArgumentException.class);
+        assertThatThrownBy(() -> CompactVersion.fromBytes(releaseWithRcNumber, 0))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+        assertThatThrownBy(() -> CompactVersion.fromBytes(new byte[CompactVersion.BYTES], 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void testRendersTheSameStringAsToSlsVersion() throws IOException {
+        for (OrderableSlsVersion orderable : versions) {
+            CompactVersion version = CompactVersion.from(orderable);
+            String expected = version.toSlsVersion().getValue();
+            assertThat(version.asciiLength()).isEqualTo(expected.length());
+            assertThat(version.appendTo(new StringBuilder()).toString()).isEqualTo(expected);
+            assertThat(version.appendTo((Appendable) new StringWriter()).toString()).isEqualTo(expected);
+
+            byte[] bytes = new byte[expected.length() + 1];
+            assertThat(version.writeAscii(bytes, 1)).isEqualTo(expected.length());
+            assertThat(new String(bytes, 1, expected.length(), StandardCharsets.US_ASCII)).isEqualTo(expected);
+
+            for (ByteBuffer buffer : Arrays.asList(
+                    ByteBuffer.allocate(expected.length() + 1), ByteBuffer.allocateDirect(expected.length() + 1))) {
+                assertThat(version.writeAscii(buffer, 1)).isEqualTo(expected.length());
+                assertThat(buffer.position()).isZero();
+                assertThat(StandardCharsets.US_ASCII.decode(buffer.position(1)).toString()).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void testWriteAsciiWritesNothingIfTheStringDoesNotFit() {
+        byte[] bytes = new byte[8];
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+
+        assertThatThrownBy(() -> CompactVersion.parse("1.0.0-rc1").writeAscii(bytes, 0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> CompactVersion.parse("1.0.0").writeAscii(buffer, 4))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(bytes).isEqualTo(new byte[8]);
+        assertThat(buffer.get(4)).isZero();
+    }
+
     @Test
     public void testMaximumValuesDoNotUseMoreThan53Bits() {
         OrderableSlsVersion max = OrderableSlsVersion.valueOf("1048575.1048575.1048575-rc1048575-1048575-gbbb");
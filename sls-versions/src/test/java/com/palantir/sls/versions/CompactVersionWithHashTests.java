@@ -0,0 +1,77 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public final class CompactVersionWithHashTests {
+
+    private static final List<String> versions = Arrays.asList(
+            "0.0.0-rc0",
+            "0.0.0-rc0-1-g0",
+            "0.0.0",
+            "0.0.0-1-g0bbb",
+            "1.0.0-rc1-10-gdeadbeef",
+            "1.0.0",
+            "1.0.0-2-g0123456789abcde",
+            "1048575.1048575.1048575-rc1048575-1048575-gfffffffffffffff");
+
+    @Test
+    public void testRoundTripsExactStrings() {
+        for (String value : versions) {
+            CompactVersionWithHash version = CompactVersionWithHash.parse(value);
+            assertThat(version.toSlsVersion().getValue()).isEqualTo(value);
+            assertThat(version.toSlsVersion()).isEqualTo(OrderableSlsVersion.valueOf(value));
+            assertThat(CompactVersionWithHash.from(OrderableSlsVersion.valueOf(value))).isEqualTo(version);
+            assertThat(version.toCompactVersion()).isEqualTo(CompactVersion.parse(value));
+        }
+    }
+
+    @Test
+    public void testOrderingIgnoresGitHash() {
+        CompactVersionWithHash first = CompactVersionWithHash.parse("1.0.0-1-gaaa");
+        CompactVersionWithHash second = CompactVersionWithHash.parse("1.0.0-1-gbbb");
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first.compareTo(second)).isZero();
+        assertThat(first.compareTo(CompactVersionWithHash.parse("1.0.0-2-gaaa"))).isNegative();
+        assertThat(CompactVersionWithHash.parse("1.0.0").getGitHash()).isZero();
+    }
+
+    @Test
+    public void testDistinguishesLeadingZerosInGitHash() {
+        assertThat(CompactVersionWithHash.parse("1.0.0-1-g0abc"))
+                .isNotEqualTo(CompactVersionWithHash.parse("1.0.0-1-gabc"));
+    }
+
+    @Test
+    public void testRejectsValuesWhichCannotBeReproduced() {
+        assertThat(CompactVersionWithHash.tryParse("1.0.0-1-g0123456789abcdef")).isEmpty();
+        assertThat(CompactVersionWithHash.tryParse("01.0.0")).isEmpty();
+        assertThat(CompactVersionWithHash.tryParse("1.0.0-rc01")).isEmpty();
+        assertThat(CompactVersionWithHash.tryParse("1.0.1048576")).isEmpty();
+        assertThat(CompactVersionWithHash.tryParse("1.0.0.dirty")).isEmpty();
+        assertThatThrownBy(() -> CompactVersionWithHash.parse("1.0.0-01-gaaa"))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+    }
+}
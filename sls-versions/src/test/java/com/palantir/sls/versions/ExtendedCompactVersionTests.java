@@ -0,0 +1,120 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public final class ExtendedCompactVersionTests {
+
+    private static final List<OrderableSlsVersion> versions = Arrays.asList(
+                    "0.0.0-rc0",
+                    "0.0.0-rc0-1-gbbb",
+                    "0.0.0",
+                    "0.0.0-1-gbbb",
+                    "0.0.1",
+                    "1.0.0-rc1",
+                    "1.0.0-rc1-2147483647-gbbb",
+                    "1.0.0-rc2147483647",
+                    "1.0.0",
+                    "1.0.0-2147483647-gbbb",
+                    "1.0.1048576",
+                    "1.0.20240115-rc1",
+                    "1.0.20240115",
+                    "1.0.20240115-1-gbbb",
+                    "1.0.2147483647",
+                    "1.1048576.0",
+                    "1048576.0.0",
+                    "2147483647.2147483647.2147483647-rc2147483647-2147483647-gbbb")
+            .stream()
+            .map(OrderableSlsVersion::valueOf)
+            .collect(Collectors.toList());
+
+    @Test
+    public void testRoundTrips() {
+        for (OrderableSlsVersion version : versions) {
+            assertThat(ExtendedCompactVersion.from(version).toSlsVersion()).isEqualTo(version);
+            assertThat(ExtendedCompactVersion.parse(version.getValue()))
+                    .isEqualTo(ExtendedCompactVersion.from(version));
+        }
+    }
+
+    @Test
+    public void testSortOrderMatchesVersionComparator() {
+        for (OrderableSlsVersion left : versions) {
+            for (OrderableSlsVersion right : versions) {
+                int comparison = ExtendedCompactVersion.from(left).compareTo(ExtendedCompactVersion.from(right));
+                assertThat(Integer.signum(comparison))
+                        .describedAs("%s vs %s", left, right)
+                        .isEqualTo(Integer.signum(left.compareTo(right)));
+            }
+        }
+    }
+
+    @Test
+    public void testByteValuesMatchSortOrder() {
+        for (int i = 0; i < versions.size() - 1; i++) {
+            assertThat(bytes(ExtendedCompactVersion.from(versions.get(i))))
+                    .isLessThan(bytes(ExtendedCompactVersion.from(versions.get(i + 1))));
+        }
+    }
+
+    @Test
+    public void testConvertsToAndFromCompactVersion() {
+        for (OrderableSlsVersion version : versions) {
+            ExtendedCompactVersion extended = ExtendedCompactVersion.from(version);
+            if (version.getMajorVersionNumber() < 1_048_576
+                    && version.getMinorVersionNumber() < 1_048_576
+                    && version.getPatchVersionNumber() < 1_048_576
+                    && version.firstSequenceVersionNumber().orElse(0) < 1_048_576
+                    && version.secondSequenceVersionNumber().orElse(0) < 1_048_576) {
+                CompactVersion compact = CompactVersion.from(version);
+                assertThat(extended.toCompactVersion()).contains(compact);
+                assertThat(compact.toExtended()).isEqualTo(extended);
+            } else {
+                assertThat(extended.toCompactVersion()).isEmpty();
+            }
+        }
+    }
+
+    @Test
+    public void testRejectsInvalidValues() {
+        assertThat(ExtendedCompactVersion.tryParse("1.0.0-foo")).isEmpty();
+        assertThat(ExtendedCompactVersion.tryParse("1.0.2147483648")).isEmpty();
+        assertThatThrownBy(() -> ExtendedCompactVersion.parse("1.0")).isInstanceOf(SafeIllegalArgumentException.class);
+    }
+
+    private static String bytes(ExtendedCompactVersion version) {
+        byte[] bytes = ByteBuffer.allocate(24)
+                .putLong(version.getHigh())
+                .putLong(version.getMiddle())
+                .putLong(version.getLow())
+                .array();
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b & 0xFF));
+        }
+        return hex.toString();
+    }
+}
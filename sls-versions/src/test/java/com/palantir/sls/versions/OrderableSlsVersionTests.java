@@ -24,13 +24,21 @@ import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.OptionalInt;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -76,6 +84,137 @@ public class OrderableSlsVersionTests {
         }
     }
 
+    @Test
+    public void testParsesFromCharsAndBytes() {
+        for (String v : ORDERABLE_VERSIONS_IN_ORDER) {
+            OrderableSlsVersion expected = OrderableSlsVersion.valueOf(v);
+            char[] chars = ("[" + v + "]").toCharArray();
+            byte[] bytes = ("[" + v + "]").getBytes(StandardCharsets.UTF_8);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+            direct.position(1).limit(bytes.length - 1);
+
+            assertThat(OrderableSlsVersion.safeValueOfChars(new StringBuilder(v))).contains(expected);
+            assertThat(OrderableSlsVersion.safeValueOfChars(chars, 1, v.length())).contains(expected);
+            assertThat(OrderableSlsVersion.safeValueOfUtf8(bytes, 1, v.length())).contains(expected);
+            assertThat(OrderableSlsVersion.safeValueOfUtf8(ByteBuffer.wrap(bytes, 1, v.length())))
+                    .contains(expected);
+            assertThat(OrderableSlsVersion.safeValueOfUtf8(direct)).contains(expected);
+            assertThat(OrderableSlsVersion.safeValueOfUtf8(direct).get().getValue()).isEqualTo(v);
+            assertThat(direct.position()).isEqualTo(1);
+        }
+        for (String v : ILLEGAL_VERSIONS) {
+            byte[] bytes = v.getBytes(StandardCharsets.UTF_8);
+            assertThat(OrderableSlsVersion.safeValueOfUtf8(bytes, 0, bytes.length)).isEmpty();
+        }
+        // 1.2.3-rc followed by a UTF-8 encoded e-acute and a 1
+        byte[] nonAscii = {'1', '.', '2', '.', '3', '-', 'r', 'c', (byte) 0xC3, (byte) 0xA9, '1'};
+        assertThat(OrderableSlsVersion.safeValueOfUtf8(nonAscii, 0, nonAscii.length)).isEmpty();
+        // the String overload is the only one of its name, so a null literal still resolves to it
+        assertThat(OrderableSlsVersion.safeValueOf(null)).isEmpty();
+    }
+
+    @Test
+    public void testPackedVersionsBehaveLikeParsedVersions() {
+        assertBehavesLikeParsedVersions(OrderableSlsVersion::packedValueOf);
+        for (String v : ILLEGAL_VERSIONS) {
+            assertThat(OrderableSlsVersion.safePackedValueOf(v)).isEmpty();
+            assertThatThrownBy(() -> OrderableSlsVersion.packedValueOf(v))
+                    .isInstanceOf(SafeIllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    public void testLazyVersionsBehaveLikeParsedVersions() {
+        assertBehavesLikeParsedVersions(OrderableSlsVersion::lazyValueOf);
+        assertThat(OrderableSlsVersion.lazyValueOf("1.2.3-rc1"))
+                .isEqualTo(OrderableSlsVersion.lazyValueOf("1.2.3-rc1"));
+        for (String v : ILLEGAL_VERSIONS) {
+            assertThat(OrderableSlsVersion.safeLazyValueOf(v)).isEmpty();
+            assertThatThrownBy(() -> OrderableSlsVersion.lazyValueOf(v))
+                    .isInstanceOf(SafeIllegalArgumentException.class);
+        }
+        assertThat(OrderableSlsVersion.safeLazyValueOf("1.2.3-rc2147483648")).isEmpty();
+        // digits in the git hash must not be decoded as components
+        for (String v : Arrays.asList("010.20.3-rc004-5-g1234ab", "1.2.3-45-g6789", "2147483647.0.1-rc2-3-g4")) {
+            assertBehavesLikeParsedVersion(OrderableSlsVersion.lazyValueOf(v), OrderableSlsVersion.valueOf(v));
+        }
+    }
+
+    @Test
+    public void testVersionsParsedFromBytesBehaveLikeParsedVersions() {
+        assertBehavesLikeParsedVersions(OrderableSlsVersionTests::fromUtf8);
+        // equal components with different characters
+        assertThat(fromUtf8("010.20.3-rc004-5-g1234ab"))
+                .isEqualTo(fromUtf8("10.20.3-rc4-5-g1234ab"))
+                .hasSameHashCodeAs(fromUtf8("10.20.3-rc4-5-g1234ab"));
+        assertThat(fromUtf8("01.2.3"))
+                .isEqualTo(OrderableSlsVersion.lazyValueOf("1.2.3"))
+                .hasSameHashCodeAs(OrderableSlsVersion.lazyValueOf("1.2.3"));
+        assertThat(fromUtf8("1.2.3")).isNotEqualTo(fromUtf8("1.2.4"));
+    }
+
+    private static OrderableSlsVersion fromUtf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return OrderableSlsVersion.safeValueOfUtf8(bytes, 0, bytes.length).get();
+    }
+
+    private static void assertBehavesLikeParsedVersions(Function<String, OrderableSlsVersion> factory) {
+        for (String v : ORDERABLE_VERSIONS_IN_ORDER) {
+            assertBehavesLikeParsedVersion(factory.apply(v), OrderableSlsVersion.valueOf(v));
+        }
+        for (int i = 0; i < ORDERABLE_VERSIONS_IN_ORDER.length - 1; i++) {
+            OrderableSlsVersion other = factory.apply(ORDERABLE_VERSIONS_IN_ORDER[i]);
+            OrderableSlsVersion next = factory.apply(ORDERABLE_VERSIONS_IN_ORDER[i + 1]);
+            assertThat(other).isLessThan(next);
+            assertThat(other).isLessThan(OrderableSlsVersion.valueOf(ORDERABLE_VERSIONS_IN_ORDER[i + 1]));
+            assertThat(other).isNotEqualTo(next);
+        }
+    }
+
+    private static void assertBehavesLikeParsedVersion(OrderableSlsVersion other, OrderableSlsVersion parsed) {
+        assertThat(other).isEqualTo(parsed);
+        assertThat(parsed).isEqualTo(other);
+        assertThat(other).hasSameHashCodeAs(parsed);
+        assertThat(other).isEqualByComparingTo(parsed);
+        assertThat(other).hasToString(parsed.getValue());
+        assertThat(other.getType()).isEqualTo(parsed.getType());
+        assertThat(other.getMajorVersionNumber()).isEqualTo(parsed.getMajorVersionNumber());
+        assertThat(other.getMinorVersionNumber()).isEqualTo(parsed.getMinorVersionNumber());
+        assertThat(other.getPatchVersionNumber()).isEqualTo(parsed.getPatchVersionNumber());
+        assertThat(other.firstSequenceVersionNumber()).isEqualTo(parsed.firstSequenceVersionNumber());
+        assertThat(other.secondSequenceVersionNumber()).isEqualTo(parsed.secondSequenceVersionNumber());
+        assertThat(other.sortKeyMsb()).isEqualTo(parsed.sortKeyMsb());
+        assertThat(other.sortKeyLsb()).isEqualTo(parsed.sortKeyLsb());
+    }
+
+    @Test
+    public void testRendersValueWithoutIntermediateStrings() throws IOException {
+        for (String v : ORDERABLE_VERSIONS_IN_ORDER) {
+            assertRendersValue(OrderableSlsVersion.lazyValueOf(v), v);
+            assertRendersValue(fromUtf8(v), v);
+        }
+        assertThatThrownBy(() -> OrderableSlsVersion.valueOf("1.0.0").writeAscii(new byte[5], 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> fromUtf8("1.0.0").writeAscii(new byte[5], 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> fromUtf8("1.0.0").writeAscii(ByteBuffer.allocate(6).limit(5), 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private static void assertRendersValue(OrderableSlsVersion version, String v) throws IOException {
+        assertThat(version.appendTo(new StringBuilder("x")).toString()).isEqualTo("x" + v);
+        assertThat(version.appendTo((Appendable) new StringBuilder()).toString()).isEqualTo(v);
+
+        byte[] bytes = new byte[v.length() + 2];
+        assertThat(version.writeAscii(bytes, 2)).isEqualTo(v.length());
+        assertThat(new String(bytes, 2, v.length(), StandardCharsets.US_ASCII)).isEqualTo(v);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(v.length() + 1);
+        assertThat(version.writeAscii(direct, 1)).isEqualTo(v.length());
+        assertThat(direct.position()).isZero();
+        assertThat(StandardCharsets.US_ASCII.decode(direct.position(1)).toString()).isEqualTo(v);
+    }
+
     @Test
     public void testToStringYieldsOriginalStrings() {
         for (String v : ORDERABLE_VERSIONS_IN_ORDER) {
@@ -117,6 +256,26 @@ public class OrderableSlsVersionTests {
                         version("1.2.3-4-gabc", 1, 2, 3, SlsVersionType.RELEASE_SNAPSHOT, 4, null));
     }
 
+    @Test
+    public void testComparesVersionsWithComponentsBeyondCompactRange() {
+        List<OrderableSlsVersion> versions = Stream.of(
+                        "1.0.1048575",
+                        "1.0.20240115-rc1",
+                        "1.0.20240115-rc1-2000000-gabc",
+                        "1.0.20240115",
+                        "1.0.20240115-1-gabc",
+                        "1.0.20240116",
+                        "1048576.0.0")
+                .map(OrderableSlsVersion::valueOf)
+                .collect(Collectors.toList());
+        for (int i = 0; i < versions.size() - 1; i++) {
+            assertThat(versions.get(i)).isLessThan(versions.get(i + 1));
+            assertThat(versions.get(i + 1)).isGreaterThan(versions.get(i));
+        }
+        assertThat(OrderableSlsVersion.valueOf("1.0.20240115-1-gabc"))
+                .isEqualByComparingTo(OrderableSlsVersion.valueOf("1.0.20240115-1-gdef"));
+    }
+
     @Test
     public void testVersionIsEqualToItself() {
         for (String v : ORDERABLE_VERSIONS_IN_ORDER) {
@@ -147,6 +306,44 @@ public class OrderableSlsVersionTests {
         assertThat(shuffledVersions).containsExactlyElementsOf(orderedVersions);
     }
 
+    @Test
+    public void compareStringsOrdersOrderableVersions() {
+        for (int i = 0; i < ORDERABLE_VERSIONS_IN_ORDER.length - 1; ++i) {
+            String left = ORDERABLE_VERSIONS_IN_ORDER[i];
+            String right = ORDERABLE_VERSIONS_IN_ORDER[i + 1];
+            assertThat(VersionComparator.compareStrings(left, right)).isEqualTo(-1);
+            assertThat(VersionComparator.compareStrings(right, left)).isEqualTo(1);
+            assertThat(VersionComparator.compareStrings(left, left)).isZero();
+        }
+    }
+
+    @Property(seed = "3226259347315412165", tries = 10_000)
+    public void compareStringsMatchesCompare(@ForAll("versions") String left, @ForAll("versions") String right) {
+        assertThat(VersionComparator.compareStrings(left, right))
+                .describedAs("%s vs %s", left, right)
+                .isEqualTo(VersionComparator.INSTANCE.compare(
+                        OrderableSlsVersion.valueOf(left), OrderableSlsVersion.valueOf(right)));
+    }
+
+    /** Returns versions whose components are small enough to collide often, but often too large to be compact. */
+    @Provide
+    public Arbitrary<String> versions() {
+        return VersionArbitraries.orderableVersions(Arbitraries.oneOf(
+                Arbitraries.integers().between(0, 2), Arbitraries.integers().between(1 << 20, (1 << 20) + 2)));
+    }
+
+    @Test
+    public void compareStringsRejectsNonOrderableVersions() {
+        assertThatThrownBy(() -> VersionComparator.compareStrings("1.0.0", "1.0.0.dirty"))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+        assertThatThrownBy(() -> VersionComparator.compareStrings("1.0.0-foo", "1.0.0"))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+        assertThatThrownBy(() -> VersionComparator.compareStrings("1.0", "1.0.0"))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+        assertThatThrownBy(() -> VersionComparator.compareStrings("1.0.0", null))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+    }
+
     @Test
     public void testTargetedVersionOrdering() {
         // Snapshots vs snapshots.
@@ -258,6 +455,8 @@ public class OrderableSlsVersionTests {
         assertThat(VersionComparator.INSTANCE.compare(
                         OrderableSlsVersion.valueOf(smaller), OrderableSlsVersion.valueOf(larger)))
                 .isEqualTo(-1);
+        assertThat(VersionComparator.compareStrings(smaller, larger)).isEqualTo(-1);
+        assertThat(VersionComparator.compareStrings(larger, smaller)).isEqualTo(1);
     }
 
     private void assertVersionsEqual(String left, String right) {
@@ -265,6 +464,7 @@ public class OrderableSlsVersionTests {
         assertThat(VersionComparator.INSTANCE.compare(
                         OrderableSlsVersion.valueOf(left), OrderableSlsVersion.valueOf(right)))
                 .isZero();
+        assertThat(VersionComparator.compareStrings(left, right)).isZero();
     }
 
     private OrderableSlsVersion version(
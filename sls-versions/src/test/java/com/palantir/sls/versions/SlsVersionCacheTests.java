@@ -0,0 +1,124 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import com.palantir.sls.versions.SlsVersionCache.EvictionPolicy;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public final class SlsVersionCacheTests {
+
+    @Test
+    public void testReturnsCanonicalInstances() {
+        SlsVersionCache<OrderableSlsVersion> cache = SlsVersionCache.forOrderableVersions(16, EvictionPolicy.LRU);
+        OrderableSlsVersion first = cache.valueOf("1.2.3-rc1");
+
+        assertThat(first).isEqualTo(OrderableSlsVersion.valueOf("1.2.3-rc1"));
+        assertThat(cache.valueOf(new StringBuilder("1.2.3-rc1").toString())).isSameAs(first);
+        assertThat(cache.safeValueOf("1.2.3-rc1")).contains(first);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testCachesInvalidValues() {
+        SlsVersionCache<OrderableSlsVersion> cache = SlsVersionCache.forOrderableVersions(16, EvictionPolicy.CLOCK);
+
+        assertThat(cache.safeValueOf("1.2.3-foo")).isEmpty();
+        assertThat(cache.safeValueOf("1.2.3-foo")).isEmpty();
+        assertThatThrownBy(() -> cache.valueOf("1.2.3-foo"))
+                .isInstanceOf(SafeIllegalArgumentException.class)
+                .hasMessageContaining("Not an orderable version");
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.safeValueOf(null)).isEmpty();
+    }
+
+    @Test
+    public void testCachesVersionsAndMatchers() {
+        SlsVersionCache<SlsVersion> versions = SlsVersionCache.forVersions(16, EvictionPolicy.LRU);
+        assertThat(versions.valueOf("1.2.3-foo")).isInstanceOf(NonOrderableSlsVersion.class);
+        assertThat(versions.valueOf("1.2.3")).isInstanceOf(OrderableSlsVersion.class);
+        assertThat(versions.safeValueOf("1.2")).isEmpty();
+        assertThatThrownBy(() -> versions.valueOf("1.2")).isInstanceOf(SafeIllegalArgumentException.class);
+
+        SlsVersionCache<SlsVersionMatcher> matchers = SlsVersionCache.forMatchers(16, EvictionPolicy.LRU);
+        assertThat(matchers.valueOf("1.x.x")).isSameAs(matchers.valueOf("1.x.x"));
+        assertThat(matchers.safeValueOf("x.1.x")).isEmpty();
+    }
+
+    @Test
+    public void testLruEvictsLeastRecentlyUsed() {
+        SlsVersionCache<OrderableSlsVersion> cache = SlsVersionCache.forOrderableVersions(2, EvictionPolicy.LRU);
+        OrderableSlsVersion first = cache.valueOf("1.0.0");
+        OrderableSlsVersion second = cache.valueOf("2.0.0");
+        cache.valueOf("1.0.0");
+        cache.valueOf("3.0.0");
+
+        assertThat(cache.getSize()).isEqualTo(2);
+        assertThat(cache.valueOf("1.0.0")).isSameAs(first);
+        assertThat(cache.valueOf("2.0.0")).isNotSameAs(second);
+    }
+
+    @Test
+    public void testClockGivesUsedEntriesASecondChance() {
+        SlsVersionCache<OrderableSlsVersion> cache = SlsVersionCache.forOrderableVersions(2, EvictionPolicy.CLOCK);
+        OrderableSlsVersion first = cache.valueOf("1.0.0");
+        OrderableSlsVersion second = cache.valueOf("2.0.0");
+        cache.valueOf("1.0.0");
+        cache.valueOf("3.0.0");
+
+        assertThat(cache.getSize()).isEqualTo(2);
+        assertThat(cache.valueOf("1.0.0")).isSameAs(first);
+        assertThat(cache.valueOf("2.0.0")).isNotSameAs(second);
+    }
+
+    @Test
+    public void testStaysBoundedUnderConcurrentUse() throws Exception {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            SlsVersionCache<OrderableSlsVersion> cache = SlsVersionCache.forOrderableVersions(64, policy);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<?>> futures = IntStream.range(0, 8)
+                        .mapToObj(thread -> executor.submit(() -> {
+                            for (int i = 0; i < 10_000; i++) {
+                                String value = "1.2." + ((i * 31 + thread) % 100);
+                                assertThat(cache.valueOf(value).getValue()).isEqualTo(value);
+                            }
+                        }))
+                        .collect(Collectors.toList());
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            assertThat(cache.getSize()).isLessThanOrEqualTo(64);
+            assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(80_000);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Test;
+
+public class SlsVersionMatcherAutomatonTests {
+
+    @Test
+    public void testFindsMatchingMatchers() {
+        SlsVersionMatcherAutomaton automaton = automaton("2.x.x", "3.14.x", "x.x.x", "3.14.15", "0.0.0");
+        assertThat(matches(automaton, "2.0.0")).containsExactly(0, 2);
+        assertThat(matches(automaton, "3.14.15")).containsExactly(1, 2, 3);
+        assertThat(matches(automaton, "03.014.0015")).containsExactly(1, 2, 3);
+        assertThat(matches(automaton, "3.14.16")).containsExactly(1, 2);
+        assertThat(matches(automaton, "0.0.0")).containsExactly(2, 4);
+        assertThat(matches(automaton, "00.00.00")).containsExactly(2, 4);
+        assertThat(matches(automaton, "3.1.4")).containsExactly(2);
+    }
+
+    @Test
+    public void testOnlyMatchesReleaseVersions() {
+        SlsVersionMatcherAutomaton automaton = automaton("x.x.x", "1.2.3");
+        for (String token : Arrays.asList(
+                "", "1", "1.2", "1.2.", "1..3", ".1.2.3", "1.2.3.", "1.2.3.4", "1.2.3-rc1", "1.2.3-4-gabc",
+                "1.2.3.dirty", "1.x.3", "1.2.3 ")) {
+            assertThat(automaton.matchesAny(token)).as(token).isFalse();
+        }
+    }
+
+    @Test
+    public void testRejectsComponentsWhichOverflow() {
+        SlsVersionMatcherAutomaton automaton = automaton("x.x.x");
+        assertThat(automaton.matchesAny("1.2147483647.3")).isTrue();
+        assertThat(automaton.matchesAny("1.0002147483647.3")).isTrue();
+        assertThat(automaton.matchesAny("1.1999999999.3")).isTrue();
+        assertThat(automaton.matchesAny("1.2147483648.3")).isFalse();
+        assertThat(automaton.matchesAny("1.3000000000.3")).isFalse();
+        assertThat(automaton.matchesAny("1.10000000000.3")).isFalse();
+    }
+
+    @Test
+    public void testReadsBytes() {
+        SlsVersionMatcherAutomaton automaton = automaton("1.x.x", "1.2.x");
+        byte[] utf8 = "version 1.2.3, 2.0.0".getBytes(StandardCharsets.UTF_8);
+        List<Integer> matches = new ArrayList<>();
+        automaton.forEachMatch(utf8, 8, 5, matches::add);
+        assertThat(matches).containsExactly(0, 1);
+        assertThat(automaton.getMatchCount(automaton.run(utf8, 15, 5))).isZero();
+        assertThat(automaton.matchesAny("1.2.3\u00e9")).isFalse();
+    }
+
+    @Test
+    public void testStepsThroughTokens() {
+        SlsVersionMatcherAutomaton automaton = automaton("1.x.x", "1.2.x");
+        int state = SlsVersionMatcherAutomaton.INITIAL_STATE;
+        for (char ch : "1.2.3".toCharArray()) {
+            state = automaton.next(state, ch);
+        }
+        assertThat(automaton.getMatchCount(state)).isEqualTo(2);
+        assertThat(automaton.getMatch(state, 0)).isZero();
+        assertThat(automaton.getMatch(state, 1)).isEqualTo(1);
+        assertThat(automaton.next(SlsVersionMatcherAutomaton.REJECTED, '1'))
+                .isEqualTo(SlsVersionMatcherAutomaton.REJECTED);
+        assertThat(automaton.getMatchCount(SlsVersionMatcherAutomaton.REJECTED)).isZero();
+    }
+
+    @Property(seed = "3226259347315412165", tries = 200)
+    public void testMatchesLikeEachMatcher(
+            @ForAll("matcherLists") List<SlsVersionMatcher> matchers, @ForAll("tokenLists") List<String> tokens) {
+        SlsVersionMatcherAutomaton automaton = SlsVersionMatcherAutomaton.builder().addAll(matchers).build();
+        assertThat(automaton.size()).isEqualTo(matchers.size());
+        for (String token : tokens) {
+            List<Integer> expected = IntStream.range(0, matchers.size())
+                    .filter(index -> matchers.get(index).matches(token))
+                    .boxed()
+                    .collect(Collectors.toList());
+            assertThat(matches(automaton, token)).as(token).isEqualTo(expected);
+        }
+    }
+
+    @Provide
+    public Arbitrary<List<SlsVersionMatcher>> matcherLists() {
+        return VersionArbitraries.matchers(numbers()).list().ofMaxSize(300);
+    }
+
+    /** Returns release versions, some with leading zeros or a suffix, and truncations of them. */
+    @Provide
+    public Arbitrary<List<String>> tokenLists() {
+        Arbitrary<String> release = Combinators.combine(numbers(), numbers(), numbers())
+                .as((major, minor, patch) -> major + "." + minor + "." + patch);
+        Arbitrary<String> token = Arbitraries.oneOf(
+                release,
+                release.map(value -> "0" + value),
+                release.map(value -> value + "-rc1"),
+                release.flatMap(value ->
+                        Arbitraries.integers().between(0, value.length() - 1).map(end -> value.substring(0, end))));
+        return token.list().ofSize(100);
+    }
+
+    /** Returns numbers which are small, large, or at or just beyond the limit of an int. */
+    private static Arbitrary<String> numbers() {
+        return Arbitraries.oneOf(
+                Arbitraries.integers().between(0, 11).map(number -> Integer.toString(number)),
+                Arbitraries.integers().between(0, 999_999).map(number -> Integer.toString(number)),
+                Arbitraries.of("2147483646", "2147483647", "2147483648"));
+    }
+
+    private static List<Integer> matches(SlsVersionMatcherAutomaton automaton, String token) {
+        List<Integer> matches = new ArrayList<>();
+        automaton.forEachMatch(token, matches::add);
+        return matches;
+    }
+
+    private static SlsVersionMatcherAutomaton automaton(String... matchers) {
+        SlsVersionMatcherAutomaton.Builder builder = SlsVersionMatcherAutomaton.builder();
+        for (String matcher : matchers) {
+            builder.add(SlsVersionMatcher.valueOf(matcher));
+        }
+        return builder.build();
+    }
+}
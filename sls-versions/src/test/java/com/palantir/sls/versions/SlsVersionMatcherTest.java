@@ -17,7 +17,13 @@
 package com.palantir.sls.versions;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 import java.util.OptionalInt;
 import org.junit.jupiter.api.Test;
 
@@ -52,6 +58,19 @@ public class SlsVersionMatcherTest {
         assertThat(SlsVersionMatcher.safeValueOf("x.2.x")).isEmpty();
     }
 
+    @Test
+    public void testParsesFromCharsAndBytes() {
+        byte[] bytes = "1.2.x 1.x.3".getBytes(StandardCharsets.UTF_8);
+        assertThat(SlsVersionMatcher.safeValueOfChars(new StringBuilder("1.2.x")))
+                .contains(matcher("1.2.x", 1, 2, null));
+        assertThat(SlsVersionMatcher.safeValueOfChars("1.2.x 1.x.3".toCharArray(), 0, 5))
+                .contains(matcher("1.2.x", 1, 2, null));
+        assertThat(SlsVersionMatcher.safeValueOfUtf8(bytes, 0, 5)).contains(matcher("1.2.x", 1, 2, null));
+        assertThat(SlsVersionMatcher.safeValueOfUtf8(bytes, 6, 5)).isEmpty();
+        assertThat(SlsVersionMatcher.safeValueOfUtf8(ByteBuffer.wrap(bytes, 0, 5)).get())
+                .hasToString("1.2.x");
+    }
+
     @Test
     public void testToStringYieldsOriginalValue() {
         assertThat(matcher("x.x.x")).hasToString("x.x.x");
@@ -121,6 +140,86 @@ public class SlsVersionMatcherTest {
         assertMatcherOrder(SlsVersionMatcher.valueOf("2.6.5"), SlsVersionMatcher.valueOf("2.6.6"));
     }
 
+    @Test
+    public void testCompactMatchBounds() {
+        assertThat(matcher("1.2.x").lowestCompactMatch()).contains(CompactVersion.parse("1.2.0"));
+        assertThat(matcher("1.2.x").highestCompactMatch()).contains(CompactVersion.parse("1.2.1048575"));
+        assertThat(matcher("1.2.3").lowestCompactMatch()).contains(CompactVersion.parse("1.2.3"));
+        assertThat(matcher("1.2.3").highestCompactMatch()).contains(CompactVersion.parse("1.2.3"));
+        assertThat(matcher("x.x.x").lowestCompactMatch()).contains(CompactVersion.parse("0.0.0"));
+        assertThat(matcher("x.x.x").highestCompactMatch()).contains(CompactVersion.parse("1048575.1048575.1048575"));
+        assertThat(matcher("1.2000000.x").lowestCompactMatch()).isEmpty();
+        assertThat(matcher("1.2000000.x").highestCompactMatch()).isEmpty();
+    }
+
+    @Test
+    public void testCompactVersionsMatchLikeDecodedVersions() {
+        List<String> matchers = Arrays.asList(
+                "x.x.x", "1.x.x", "2.x.x", "1.2.x", "1.3.x", "1.2.3", "2.0.0", "1.2000000.x", "1.2.3000000");
+        List<String> versions = Arrays.asList(
+                "0.0.0", "1.0.0", "1.2.2", "1.2.3", "1.2.4", "1.2.3-rc1", "1.2.3-1-gabc", "1.2.3-rc1-1-gabc",
+                "1.3.0-rc2", "2.0.0", "2.0.0-rc1", "3.0.0", "1.1048575.1048575");
+        for (String matcherValue : matchers) {
+            SlsVersionMatcher matcher = matcher(matcherValue);
+            for (String versionValue : versions) {
+                OrderableSlsVersion version = version(versionValue);
+                CompactVersion compact = CompactVersion.from(version);
+                assertThat(matcher.matches(compact))
+                        .as(matcherValue + " matches " + versionValue)
+                        .isEqualTo(matcher.matches(version));
+                assertThat(Integer.signum(matcher.compare(compact)))
+                        .as(matcherValue + " compared to " + versionValue)
+                        .isEqualTo(Integer.signum(matcher.compare(version)));
+            }
+        }
+    }
+
+    @Test
+    public void testComparesLargeComponents() {
+        assertThat(matcher("1.2.20240115").compare(version("1.2.20240115"))).isZero();
+        assertThat(matcher("1.2.20240115").compare(version("1.2.20240115-rc1"))).isPositive();
+        assertThat(matcher("1.2.20240115").compare(version("1.2.20240115-1-gabc"))).isNegative();
+        assertThat(matcher("1.2000000.x").compare(version("1.2000000.5-rc1"))).isZero();
+        assertThat(matcher("1.2000000.x").compare(CompactVersion.parse("1.5.0"))).isPositive();
+        assertThat(matcher("1.2000000.x").matches(CompactVersion.parse("1.5.0"))).isFalse();
+    }
+
+    @Test
+    public void testStringsMatchLikeParsedVersions() {
+        List<String> matchers = Arrays.asList(
+                "x.x.x", "1.x.x", "2.x.x", "1.2.x", "1.3.x", "1.2.3", "2.0.0", "1.2000000.x", "1.2.3000000");
+        List<String> versions = Arrays.asList(
+                "0.0.0", "1.0.0", "01.02.03", "1.2.2", "1.2.3", "1.2.4", "1.2.3-rc1", "1.2.3-1-gabc",
+                "1.2.3-rc1-1-gabc", "1.3.0-rc2", "2.0.0", "2.0.0-rc1", "3.0.0", "1.2000000.7", "1.2.3000000-rc1");
+        for (String matcherValue : matchers) {
+            SlsVersionMatcher matcher = matcher(matcherValue);
+            for (String versionValue : versions) {
+                OrderableSlsVersion version = version(versionValue);
+                assertThat(matcher.matches(versionValue))
+                        .as(matcherValue + " matches " + versionValue)
+                        .isEqualTo(matcher.matches(version));
+                assertThat(Integer.signum(matcher.compare(versionValue)))
+                        .as(matcherValue + " compared to " + versionValue)
+                        .isEqualTo(Integer.signum(matcher.compare(version)));
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidStringsDoNotMatch() {
+        assertThat(matcher("x.x.x").matches("1.2.3.dirty")).isFalse();
+        assertThat(matcher("x.x.x").matches("1.2.3-foo")).isFalse();
+        assertThat(matcher("x.x.x").matches("1.2")).isFalse();
+        assertThat(matcher("x.x.x").matches("1.2.")).isFalse();
+        assertThat(matcher("x.x.x").matches("1.2.3 ")).isFalse();
+        assertThat(matcher("1.x.x").matches("1.99999999999.3")).isFalse();
+
+        assertThatThrownBy(() -> matcher("1.x.x").compare("1.2.3.dirty"))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+        assertThatThrownBy(() -> matcher("1.x.x").compare("1.2"))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+    }
+
     private static void assertMatcherOrder(SlsVersionMatcher smaller, SlsVersionMatcher larger) {
         assertThat(SlsVersionMatcher.MATCHER_COMPARATOR.compare(smaller, larger))
                 .isLessThan(0);
@@ -0,0 +1,121 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+/**
+ * Validates that the single-pass {@link SlsVersionParser} behaves identically to matching the regex of each
+ * {@link SlsVersionType} in turn.
+ */
+public final class SlsVersionParserTest {
+
+    private static final SlsVersionType[] ORDERED_VERSION_TYPES = {
+        SlsVersionType.RELEASE,
+        SlsVersionType.RELEASE_CANDIDATE,
+        SlsVersionType.RELEASE_CANDIDATE_SNAPSHOT,
+        SlsVersionType.RELEASE_SNAPSHOT
+    };
+
+    @Property(seed = "3226259347315412165", tries = 5000)
+    public void parses_like_regexes(@ForAll("versionLike") String string) {
+        assertThat(OrderableSlsVersion.safeValueOf(string))
+                .describedAs(string)
+                .isEqualTo(regexSafeValueOf(string));
+    }
+
+    @Property(seed = "3226259347315412165", tries = 5000)
+    public void classifies_like_regexes(@ForAll("versionLike") String string) {
+        Optional<SlsVersionType> expected = regexSafeValueOf(string)
+                .map(SlsVersion::getType)
+                .or(() -> regexNonOrderable(string) ? Optional.of(SlsVersionType.NON_ORDERABLE) : Optional.empty());
+        assertThat(Optional.ofNullable(SlsVersionParser.classify(string)))
+                .describedAs(string)
+                .isEqualTo(expected);
+        assertThat(NonOrderableSlsVersion.safeValueOf(string).isPresent())
+                .describedAs(string)
+                .isEqualTo(regexNonOrderable(string));
+    }
+
+    @Provide
+    public Arbitrary<String> versionLike() {
+        Arbitrary<String> number = Arbitraries.oneOf(
+                Arbitraries.integers().between(0, 1000).map(value -> Integer.toString(value)),
+                Arbitraries.of("00", "007", "2147483647", "2147483648", "99999999999"));
+        Arbitrary<String> token = Arbitraries.oneOf(
+                number,
+                Arbitraries.of(".", "-", "-rc", "-g", "g", "a", "f", "z", "x", "A", "_", ".dirty", "-abc", "-1-gabc"));
+        Arbitrary<String> suffix = token.list().ofMaxSize(6).map(tokens -> String.join("", tokens));
+        Arbitrary<String> base = number.list().ofSize(3).map(numbers -> String.join(".", numbers));
+        return Arbitraries.oneOf(suffix, base.flatMap(prefix -> suffix.map(rest -> prefix + rest)));
+    }
+
+    private static Optional<OrderableSlsVersion> regexSafeValueOf(String string) {
+        for (SlsVersionType type : ORDERED_VERSION_TYPES) {
+            Matcher matcher = type.getPattern().matcher(string);
+            if (matcher.matches()) {
+                return construct(type, string, matcher);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean regexNonOrderable(String string) {
+        Matcher matcher = SlsVersionType.NON_ORDERABLE.getPattern().matcher(string);
+        return matcher.matches() && fitsInInt(matcher.group(1), matcher.group(2), matcher.group(3));
+    }
+
+    private static boolean fitsInInt(String... numbers) {
+        try {
+            for (String number : numbers) {
+                Integer.parseInt(number);
+            }
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static Optional<OrderableSlsVersion> construct(SlsVersionType type, String string, Matcher matcher) {
+        try {
+            OrderableSlsVersion.Builder builder = new OrderableSlsVersion.Builder()
+                    .type(type)
+                    .value(string)
+                    .majorVersionNumber(Integer.parseInt(matcher.group(1)))
+                    .minorVersionNumber(Integer.parseInt(matcher.group(2)))
+                    .patchVersionNumber(Integer.parseInt(matcher.group(3)));
+            if (matcher.groupCount() >= 4) {
+                builder.firstSequenceVersionNumber(Integer.parseInt(matcher.group(4)));
+            }
+            if (matcher.groupCount() >= 5) {
+                builder.secondSequenceVersionNumber(Integer.parseInt(matcher.group(5)));
+            }
+            return Optional.of(builder.build());
+        } catch (NumberFormatException e) {
+            // components which overflow an int are not valid versions
+            return Optional.empty();
+        }
+    }
+}
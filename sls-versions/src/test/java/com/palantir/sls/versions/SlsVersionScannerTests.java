@@ -0,0 +1,180 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import javax.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+public class SlsVersionScannerTests {
+
+    @Test
+    public void testFindsVersionsInText() {
+        String text = "Deployed my-service-1.2.3 and v2.0.0-rc1, then 3.4.5-6-gabc (was 1.0.0.dirty)";
+        assertThat(scan(text))
+                .containsExactly(
+                        token(text, "1.2.3", SlsVersionType.RELEASE),
+                        token(text, "2.0.0-rc1", SlsVersionType.RELEASE_CANDIDATE),
+                        token(text, "3.4.5-6-gabc", SlsVersionType.RELEASE_SNAPSHOT),
+                        token(text, "1.0.0.dirty", SlsVersionType.NON_ORDERABLE));
+    }
+
+    @Test
+    public void testRequiresBoundaries() {
+        assertThat(scan("ip 10.0.0.1, 1.2.3-SNAPSHOT, 1.2.3a, 1.2.3_4, 1.2.3.dirtyx, 1.2.3-rc1-1-gABC")).isEmpty();
+        assertThat(scan("1.2.3.")).containsExactly(token(0, 5, SlsVersionType.RELEASE, key("1.2.3")));
+        assertThat(scan("(1.2.3-rc1-2-gabc)"))
+                .containsExactly(token(1, 16, SlsVersionType.RELEASE_CANDIDATE_SNAPSHOT, key("1.2.3-rc1-2-gabc")));
+        assertThat(scan("1.2.3-foo- ")).containsExactly(token(0, 10, SlsVersionType.NON_ORDERABLE, null));
+        assertThat(scan("1.2.3- x")).containsExactly(token(0, 5, SlsVersionType.RELEASE, key("1.2.3")));
+    }
+
+    @Test
+    public void testSkipsComponentsWhichDoNotFit() {
+        assertThat(scan("99999999999.1.2 1.2.3")).containsExactly(token(16, 5, SlsVersionType.RELEASE, key("1.2.3")));
+        assertThat(scan("1.2.2000000")).containsExactly(token(0, 11, SlsVersionType.RELEASE, null));
+        assertThat(scan("0001.02.3")).containsExactly(token(0, 9, SlsVersionType.RELEASE, key("1.2.3")));
+    }
+
+    @Test
+    public void testScansBytes() {
+        String text = "caf\u00e9 1.2.3 and 4.5.6-rc7";
+        byte[] utf8 = ("xx" + text).getBytes(StandardCharsets.UTF_8);
+        List<String> fromArray = new ArrayList<>();
+        SlsVersionScanner.scan(utf8, 2, utf8.length - 2, collector(fromArray));
+        assertThat(fromArray)
+                .containsExactly(
+                        token(8, 5, SlsVersionType.RELEASE, key("1.2.3")),
+                        token(18, 9, SlsVersionType.RELEASE_CANDIDATE, key("4.5.6-rc7")));
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(utf8.length).put(utf8);
+        buffer.position(2);
+        List<String> fromBuffer = new ArrayList<>();
+        SlsVersionScanner.scan(buffer, collector(fromBuffer));
+        assertThat(fromBuffer).isEqualTo(fromArray);
+        assertThat(buffer.position()).isEqualTo(2);
+    }
+
+    @Test
+    public void testFindsSameVersionsInCharsAndBytes() {
+        // a no-break space, an ellipsis, a right single quote and an e-acute after versions, and before one
+        String text = "v1.2.3\u00a0deployed, 2.0.0\u2026 and 3.4.5-rc1\u2019s, 4.5.6\u00e9 \u00e97.8.9";
+        List<String> fromChars = new ArrayList<>();
+        SlsVersionScanner.scan(text, (offset, length, type, _keyMsb, _keyLsb) ->
+                fromChars.add(text.substring(offset, offset + length) + " " + type));
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        List<String> fromBytes = new ArrayList<>();
+        SlsVersionScanner.scan(utf8, 0, utf8.length, (offset, length, type, _keyMsb, _keyLsb) ->
+                fromBytes.add(new String(utf8, offset, length, StandardCharsets.UTF_8) + " " + type));
+
+        assertThat(fromChars)
+                .containsExactly(
+                        "1.2.3 RELEASE",
+                        "2.0.0 RELEASE",
+                        "3.4.5-rc1 RELEASE_CANDIDATE",
+                        "4.5.6 RELEASE",
+                        "7.8.9 RELEASE");
+        assertThat(fromBytes).isEqualTo(fromChars);
+    }
+
+    @Test
+    public void testFindsEveryVersionWord() {
+        SplittableRandom random = new SplittableRandom(0);
+        StringBuilder text = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        // long enough to span several parallel chunks, with versions across their edges
+        while (text.length() < 3 * SlsVersionScanner.PARALLEL_CHUNK_SIZE) {
+            String word = randomWord(random);
+            SlsVersionType type = SlsVersionParser.classify(word);
+            if (type != null) {
+                expected.add(token(text.length(), word.length(), type, key(word)));
+            }
+            text.append(word).append(random.nextBoolean() ? " " : ", ");
+        }
+        assertThat(scan(text)).isEqualTo(expected);
+
+        List<String> parallel = Collections.synchronizedList(new ArrayList<>());
+        SlsVersionScanner.parallelScan(text, collector(parallel));
+        parallel.sort(Comparator.comparingInt(SlsVersionScannerTests::offset));
+        assertThat(parallel).isEqualTo(expected);
+
+        byte[] utf8 = text.toString().getBytes(StandardCharsets.UTF_8);
+        List<String> parallelBytes = Collections.synchronizedList(new ArrayList<>());
+        SlsVersionScanner.parallelScan(ByteBuffer.wrap(utf8), collector(parallelBytes));
+        parallelBytes.sort(Comparator.comparingInt(SlsVersionScannerTests::offset));
+        assertThat(parallelBytes).isEqualTo(expected);
+    }
+
+    private static String randomWord(SplittableRandom random) {
+        String release = random.nextInt(20) + "." + random.nextInt(20) + "." + random.nextInt(2_000_000);
+        switch (random.nextInt(8)) {
+            case 0:
+                return release;
+            case 1:
+                return release + "-rc" + random.nextInt(5);
+            case 2:
+                return release + "-" + random.nextInt(100) + "-gabc";
+            case 3:
+                return release + "-rc" + random.nextInt(5) + "-" + random.nextInt(100) + "-gabc";
+            case 4:
+                return release + "-foo.dirty";
+            case 5:
+                return release + "." + random.nextInt(10);
+            case 6:
+                return "2026-10-16T12:34:56";
+            default:
+                return "deploying";
+        }
+    }
+
+    private static List<String> scan(CharSequence text) {
+        List<String> tokens = new ArrayList<>();
+        SlsVersionScanner.scan(text, collector(tokens));
+        return tokens;
+    }
+
+    private static SlsVersionScanner.TokenConsumer collector(List<String> tokens) {
+        return (offset, length, type, keyMsb, keyLsb) -> tokens.add(token(
+                offset, length, type, keyMsb == SlsVersionScanner.NO_KEY ? null : new CompactVersion(keyMsb, keyLsb)));
+    }
+
+    private static String token(String text, String version, SlsVersionType type) {
+        return token(text.indexOf(version), version.length(), type, key(version));
+    }
+
+    @Nullable
+    private static CompactVersion key(String version) {
+        return CompactVersion.tryParse(version).orElse(null);
+    }
+
+    private static int offset(String token) {
+        return Integer.parseInt(token.substring(0, token.indexOf(' ')));
+    }
+
+    /** Describes a token as its offset, length, type and compact key. */
+    private static String token(int offset, int length, SlsVersionType type, @Nullable CompactVersion key) {
+        return offset + " " + length + " " + type + " " + key;
+    }
+}
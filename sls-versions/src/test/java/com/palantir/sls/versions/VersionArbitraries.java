@@ -0,0 +1,73 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import java.util.Optional;
+import javax.annotation.Nullable;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+
+/** Arbitraries shared by the property tests of versions and of the structures which store them. */
+final class VersionArbitraries {
+
+    private VersionArbitraries() {}
+
+    /**
+     * Returns orderable version strings, evenly split between the four orderable types, whose numeric components are
+     * drawn from the given numbers.
+     */
+    static Arbitrary<String> orderableVersions(Arbitrary<Integer> numbers) {
+        Arbitrary<String> release = Combinators.combine(numbers, numbers, numbers)
+                .as((major, minor, patch) -> major + "." + minor + "." + patch);
+        Arbitrary<String> suffix = Arbitraries.oneOf(
+                Arbitraries.just(""),
+                numbers.map(rc -> "-rc" + rc),
+                numbers.map(distance -> "-" + distance + "-gabc"),
+                Combinators.combine(numbers, numbers).as((rc, distance) -> "-rc" + rc + "-" + distance + "-gabc"));
+        return Combinators.combine(release, suffix).as(String::concat);
+    }
+
+    /**
+     * Returns matchers whose components are each either {@code x} or one of the given numbers, skipping combinations
+     * which are not valid matchers.
+     */
+    static Arbitrary<SlsVersionMatcher> matchers(Arbitrary<String> numbers) {
+        Arbitrary<String> component = Arbitraries.oneOf(Arbitraries.just("x"), numbers);
+        return Combinators.combine(component, component, component)
+                .as((major, minor, patch) -> SlsVersionMatcher.safeValueOf(major + "." + minor + "." + patch))
+                .filter(Optional::isPresent)
+                .map(Optional::get);
+    }
+
+    /** Returns ranges between the given versions, each bound of which is sometimes unbounded. */
+    static Arbitrary<VersionRange> ranges(Arbitrary<String> versions) {
+        Arbitrary<OrderableSlsVersion> bounds = versions.map(OrderableSlsVersion::valueOf).injectNull(0.2);
+        Arbitrary<Boolean> inclusive = Arbitraries.of(true, false);
+        return Combinators.combine(bounds, inclusive, bounds, inclusive).as(VersionArbitraries::range);
+    }
+
+    /** Returns the range between the given bounds, swapping them if they are out of order. */
+    private static VersionRange range(
+            @Nullable OrderableSlsVersion first,
+            boolean firstInclusive,
+            @Nullable OrderableSlsVersion second,
+            boolean secondInclusive) {
+        boolean ordered = first == null || second == null || first.compareTo(second) <= 0;
+        return VersionRange.of(ordered ? first : second, firstInclusive, ordered ? second : first, secondInclusive);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Test;
+
+public final class VersionIntervalIndexTests {
+
+    @Test
+    public void testFindsMatchingRangesAndMatchers() {
+        VersionIntervalIndex<String> index = VersionIntervalIndex.<String>builder()
+                .add(VersionRange.valueOf("[1.2.3, 2.0.0)"), "range")
+                .add(SlsVersionMatcher.valueOf("1.x.x"), "major")
+                .add(SlsVersionMatcher.valueOf("1.2.x"), "minor")
+                .add(SlsVersionMatcher.valueOf("1.2.3"), "patch")
+                .add(SlsVersionMatcher.valueOf("x.x.x"), "any")
+                .add(VersionRange.valueOf("(, 1.2.3)"), "below")
+                .build();
+
+        assertThat(sorted(index.getMatches(v("1.2.3")))).containsExactly("any", "major", "minor", "patch", "range");
+        assertThat(sorted(index.getMatches(v("1.2.4")))).containsExactly("any", "major", "minor", "range");
+        assertThat(sorted(index.getMatches(v("1.2.3-rc1")))).containsExactly("below");
+        assertThat(sorted(index.getMatches(v("1.2.3-1-gabc")))).containsExactly("range");
+        assertThat(sorted(index.getMatches(v("2.0.0")))).containsExactly("any");
+        assertThat(sorted(index.getMatches(CompactVersion.parse("1.3.0")))).containsExactly("any", "major", "range");
+        assertThat(index.size()).isEqualTo(6);
+        assertThat(index.get(3)).isEqualTo("patch");
+    }
+
+    @Test
+    public void testMatchersAtTheEndOfTheNumberRange() {
+        int max = Integer.MAX_VALUE;
+        VersionIntervalIndex<String> index = VersionIntervalIndex.<String>builder()
+                .add(SlsVersionMatcher.valueOf(max + ".x.x"), "major")
+                .add(SlsVersionMatcher.valueOf("1." + max + ".x"), "minor")
+                .add(SlsVersionMatcher.valueOf("1.2." + max), "patch")
+                .build();
+
+        assertThat(index.getMatches(v(max + "." + max + "." + max))).containsExactly("major");
+        assertThat(index.getMatches(v("1." + max + ".7"))).containsExactly("minor");
+        assertThat(index.getMatches(v("1.2." + max))).containsExactly("patch");
+        assertThat(index.getMatches(v("1.3.0"))).isEmpty();
+    }
+
+    @Test
+    public void testEmptyIndex() {
+        VersionIntervalIndex<String> index = VersionIntervalIndex.<String>builder()
+                .add(VersionRange.valueOf("[1.0.0, 1.0.0)"), "empty")
+                .build();
+
+        assertThat(index.getMatches(v("1.0.0"))).isEmpty();
+        assertThat(VersionIntervalIndex.builder().build().getMatches(v("1.0.0"))).isEmpty();
+    }
+
+    @Property(seed = "3226259347315412165", tries = 500)
+    public void testMatchesLinearScan(
+            @ForAll("matcherLists") List<SlsVersionMatcher> matchers,
+            @ForAll("rangeLists") List<VersionRange> ranges,
+            @ForAll("versions") String value) {
+        VersionIntervalIndex.Builder<Integer> builder = VersionIntervalIndex.builder();
+        for (int i = 0; i < matchers.size(); i++) {
+            builder.add(matchers.get(i), i);
+        }
+        for (int i = 0; i < ranges.size(); i++) {
+            builder.add(ranges.get(i), matchers.size() + i);
+        }
+        VersionIntervalIndex<Integer> index = builder.build();
+        OrderableSlsVersion version = v(value);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < matchers.size(); i++) {
+            if (matchers.get(i).matches(version)) {
+                expected.add(i);
+            }
+        }
+        for (int i = 0; i < ranges.size(); i++) {
+            if (ranges.get(i).contains(version)) {
+                expected.add(matchers.size() + i);
+            }
+        }
+        List<Integer> positions = new ArrayList<>();
+        index.forEachMatch(version, positions::add);
+        assertThat(sorted(positions)).isEqualTo(expected);
+        assertThat(sorted(index.getMatches(CompactVersion.from(version)))).isEqualTo(expected);
+    }
+
+    @Provide
+    public Arbitrary<String> versions() {
+        return VersionArbitraries.orderableVersions(Arbitraries.integers().between(0, 3));
+    }
+
+    @Provide
+    public Arbitrary<List<SlsVersionMatcher>> matcherLists() {
+        return VersionArbitraries.matchers(Arbitraries.integers().between(0, 3).map(number -> Integer.toString(number)))
+                .list()
+                .ofMaxSize(500);
+    }
+
+    @Provide
+    public Arbitrary<List<VersionRange>> rangeLists() {
+        return VersionArbitraries.ranges(versions()).list().ofMaxSize(500);
+    }
+
+    private static <T extends Comparable<T>> List<T> sorted(List<T> values) {
+        return values.stream().sorted().collect(Collectors.toList());
+    }
+
+    private static OrderableSlsVersion v(String value) {
+        return OrderableSlsVersion.valueOf(value);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Test;
+
+public final class VersionRangeSetTests {
+
+    @Test
+    public void testMergesOverlappingAndTouchingRanges() {
+        VersionRangeSet set = VersionRangeSet.of(
+                VersionRange.valueOf("[2.0.0, 3.0.0)"),
+                VersionRange.valueOf("[1.0.0, 1.5.0)"),
+                VersionRange.valueOf("[1.2.0, 2.0.0)"),
+                VersionRange.valueOf("(4.0.0, 5.0.0]"),
+                VersionRange.valueOf("[1.0.0, 1.0.0)"));
+
+        assertThat(set.asRanges())
+                .containsExactly(VersionRange.valueOf("[1.0.0, 3.0.0)"), VersionRange.valueOf("(4.0.0, 5.0.0]"));
+        assertThat(set.toString()).isEqualTo("{[1.0.0, 3.0.0), (4.0.0, 5.0.0]}");
+        assertThat(VersionRangeSet.of(VersionRange.valueOf("[1.0.0, 2.0.0)"), VersionRange.valueOf("(2.0.0, 3.0.0)"))
+                        .asRanges())
+                .hasSize(2);
+    }
+
+    @Test
+    public void testComplementOfUnboundedRanges() {
+        VersionRangeSet set = VersionRangeSet.of(VersionRange.valueOf("(, 1.0.0)"), VersionRange.valueOf("[2.0.0,)"));
+
+        assertThat(set.complement().asRanges()).containsExactly(VersionRange.valueOf("[1.0.0, 2.0.0)"));
+        assertThat(set.complement().complement()).isEqualTo(set);
+        assertThat(VersionRangeSet.all().complement()).isEqualTo(VersionRangeSet.empty());
+        assertThat(VersionRangeSet.empty().complement().asRanges()).containsExactly(VersionRange.all());
+    }
+
+    @Property(seed = "3226259347315412165", tries = 10_000)
+    public void testSetOperationsMatchRangeContainment(
+            @ForAll("rangeLists") List<VersionRange> leftRanges,
+            @ForAll("rangeLists") List<VersionRange> rightRanges,
+            @ForAll("versions") String value) {
+        VersionRangeSet left = VersionRangeSet.copyOf(leftRanges);
+        VersionRangeSet right = VersionRangeSet.copyOf(rightRanges);
+        OrderableSlsVersion version = OrderableSlsVersion.valueOf(value);
+        boolean inLeft = containedInAny(leftRanges, version);
+        boolean inRight = containedInAny(rightRanges, version);
+
+        assertThat(left.contains(version)).isEqualTo(inLeft);
+        assertThat(left.contains(CompactVersion.from(version))).isEqualTo(inLeft);
+        assertThat(containedInAny(left.asRanges(), version)).isEqualTo(inLeft);
+        assertThat(left.union(right).contains(version)).isEqualTo(inLeft || inRight);
+        assertThat(left.intersection(right).contains(version)).isEqualTo(inLeft && inRight);
+        assertThat(left.complement().contains(version)).isEqualTo(!inLeft);
+    }
+
+    @Provide
+    public Arbitrary<String> versions() {
+        return VersionArbitraries.orderableVersions(Arbitraries.integers().between(0, 2));
+    }
+
+    @Provide
+    public Arbitrary<List<VersionRange>> rangeLists() {
+        return VersionArbitraries.ranges(versions()).list().ofMaxSize(3);
+    }
+
+    private static boolean containedInAny(List<VersionRange> ranges, OrderableSlsVersion version) {
+        return ranges.stream().anyMatch(range -> range.contains(version));
+    }
+}
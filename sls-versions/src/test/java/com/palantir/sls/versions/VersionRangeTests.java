@@ -0,0 +1,78 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.sls.versions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import org.junit.jupiter.api.Test;
+
+public final class VersionRangeTests {
+
+    @Test
+    public void testParsesIntervalNotation() {
+        VersionRange range = VersionRange.valueOf("[1.2.3, 2.0.0)");
+
+        assertThat(range).isEqualTo(VersionRange.closedOpen(v("1.2.3"), v("2.0.0")));
+        assertThat(range.toString()).isEqualTo("[1.2.3, 2.0.0)");
+        assertThat(VersionRange.valueOf("(1.0.0,1.0.1]")).isEqualTo(VersionRange.openClosed(v("1.0.0"), v("1.0.1")));
+        assertThat(VersionRange.valueOf("[1.0.0,)")).isEqualTo(VersionRange.atLeast(v("1.0.0")));
+        assertThat(VersionRange.valueOf("(, 2.0.0)")).isEqualTo(VersionRange.lessThan(v("2.0.0")));
+        assertThat(VersionRange.valueOf("(,)")).isEqualTo(VersionRange.all());
+        assertThat(VersionRange.all().toString()).isEqualTo("(,)");
+        assertThat(VersionRange.atMost(v("2.0.0")).toString()).isEqualTo("(, 2.0.0]");
+    }
+
+    @Test
+    public void testRejectsInvalidRanges() {
+        assertThat(VersionRange.safeValueOf("1.0.0")).isEmpty();
+        assertThat(VersionRange.safeValueOf("[1.0.0]")).isEmpty();
+        assertThat(VersionRange.safeValueOf("[1.0.0, 2.0.0}")).isEmpty();
+        assertThat(VersionRange.safeValueOf("[1.0.x, 2.0.0)")).isEmpty();
+        assertThat(VersionRange.safeValueOf("[2.0.0, 1.0.0)")).isEmpty();
+        assertThat(VersionRange.safeValueOf("")).isEmpty();
+        assertThat(VersionRange.safeValueOf(null)).isEmpty();
+        assertThatThrownBy(() -> VersionRange.closed(v("2.0.0"), v("1.0.0")))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+    }
+
+    @Test
+    public void testContainsRespectsBounds() {
+        VersionRange range = VersionRange.valueOf("[1.2.3, 2.0.0)");
+
+        assertThat(range.contains(v("1.2.3"))).isTrue();
+        assertThat(range.contains(v("1.2.3-rc1"))).isFalse();
+        assertThat(range.contains(v("1.9.9-2-gabc"))).isTrue();
+        assertThat(range.contains(v("2.0.0-rc1"))).isTrue();
+        assertThat(range.contains(v("2.0.0"))).isFalse();
+        assertThat(VersionRange.greaterThan(v("1.0.0")).contains(v("1.0.0"))).isFalse();
+        assertThat(VersionRange.all().contains(v("0.0.0-rc0"))).isTrue();
+    }
+
+    @Test
+    public void testEmptyRanges() {
+        assertThat(VersionRange.closedOpen(v("1.0.0"), v("1.0.0")).isEmpty()).isTrue();
+        assertThat(VersionRange.open(v("1.0.0"), v("1.0.0")).contains(v("1.0.0"))).isFalse();
+        assertThat(VersionRange.closed(v("1.0.0"), v("1.0.0")).isEmpty()).isFalse();
+        assertThat(VersionRange.all().isEmpty()).isFalse();
+    }
+
+    private static OrderableSlsVersion v(String value) {
+        return OrderableSlsVersion.valueOf(value);
+    }
+}